@@ -0,0 +1,33 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * A {@link SampleStore} backed by an array
+ *
+ * @author hstclair
+ * @since 10/17/26 5:00 PM
+ */
+public class ArraySampleStore implements SampleStore {
+
+    final double[] samples;
+
+    public ArraySampleStore(double[] samples) {
+        this.samples = Objects.requireNonNull(samples);
+    }
+
+    @Override
+    public long length() {
+        return samples.length;
+    }
+
+    @Override
+    public void read(long position, double[] buffer, int off, int len) {
+        System.arraycopy(samples, Math.toIntExact(position), buffer, off, len);
+    }
+
+    @Override
+    public void write(long position, double[] buffer, int off, int len) {
+        System.arraycopy(buffer, off, samples, Math.toIntExact(position), len);
+    }
+}
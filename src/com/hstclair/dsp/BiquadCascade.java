@@ -0,0 +1,116 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * A filter design expressed as a cascade of independent second order sections rather than as a single expanded
+ * direct form polynomial.  Each pole pair keeps its own three term numerator and denominator, which avoids the loss
+ * of precision that comes from multiplying many pole pairs together.
+ *
+ * Section <i>s</i> computes:
+ *
+ *   y[n] = a0 x[n] + a1 x[n-1] + a2 x[n-2] + b1 y[n-1] + b2 y[n-2]
+ *
+ * Each section is individually normalized to unity gain in its passband, so the cascade as a whole has unity gain.
+ * Coefficients are stored section by section as { a0, a1, a2, b1, b2 }.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:20 AM
+ */
+public class BiquadCascade {
+
+    static final int STRIDE = 5;
+
+    final double[] coefficients;
+
+    BiquadCascade(PolePairCoefficientSet[] sections) {
+        Objects.requireNonNull(sections);
+
+        coefficients = new double[sections.length * STRIDE];
+
+        for (int section = 0; section < sections.length; section++) {
+            PolePairCoefficientSet coefficientSet = sections[section];
+
+            double gain = coefficientSet.computeGainAdjustment();
+
+            int offset = section * STRIDE;
+
+            // the pole pair coefficient sets hold their undelayed terms at index 2
+            coefficients[offset] = coefficientSet.a[2] / gain;
+            coefficients[offset + 1] = coefficientSet.a[1] / gain;
+            coefficients[offset + 2] = coefficientSet.a[0] / gain;
+            coefficients[offset + 3] = coefficientSet.b[1];
+            coefficients[offset + 4] = coefficientSet.b[0];
+        }
+    }
+
+    /**
+     * @param coefficients the coefficients { a0, a1, a2, b1, b2 } of each section in turn, which the cascade takes
+     *                     ownership of
+     */
+    BiquadCascade(double[] coefficients) {
+        Objects.requireNonNull(coefficients);
+
+        if (coefficients.length % STRIDE != 0)
+            throw new IllegalArgumentException("coefficients must hold " + STRIDE + " values per section");
+
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * @return the number of second order sections in the cascade
+     */
+    public int sections() {
+        return coefficients.length / STRIDE;
+    }
+
+    /**
+     * @return the order of the filter
+     */
+    public int order() {
+        return sections() * 2;
+    }
+
+    /**
+     * @return the largest radius (in the z plane) of the poles of any section
+     */
+    public double maxPoleRadius() {
+        double radius = 0;
+
+        for (int offset = 0; offset < coefficients.length; offset += STRIDE)
+            radius = Math.max(radius, poleRadius(coefficients[offset + 3], coefficients[offset + 4]));
+
+        return radius;
+    }
+
+    /**
+     * Compute the largest pole radius of a section whose poles are the roots of z^2 - b1 z - b2
+     *
+     * @param b1 the once delayed feedback coefficient
+     * @param b2 the twice delayed feedback coefficient
+     * @return the largest magnitude of either pole
+     */
+    static double poleRadius(double b1, double b2) {
+        double discriminant = b1 * b1 + 4 * b2;
+
+        // a complex conjugate pair has magnitude sqrt(product of the poles)
+        if (discriminant < 0)
+            return Math.sqrt(-b2);
+
+        double root = Math.sqrt(discriminant);
+
+        return Math.max(Math.abs(b1 + root), Math.abs(b1 - root)) / 2;
+    }
+
+    /**
+     * @param section the section index
+     * @return a copy of the coefficients { a0, a1, a2, b1, b2 } of the specified section
+     */
+    public double[] getSection(int section) {
+        double[] result = new double[STRIDE];
+
+        System.arraycopy(coefficients, section * STRIDE, result, 0, STRIDE);
+
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Streaming runtime for a {@link BiquadCascade}.  Each section runs in transposed direct form II with two state
+ * variables, so the per-sample cost is fixed per section regardless of the overall order of the filter.
+ *
+ * Blocks are processed one section at a time over the whole block, which keeps each section's coefficients and
+ * state in registers for the duration of its pass.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:40 AM
+ */
+public class BiquadCascadeFilter implements DigitalFilter {
+
+    final double[] coefficients;
+
+    final double[] state;
+
+    DenormalProtection denormalProtection = DenormalProtection.NONE;
+    double dcOffset = 0;
+
+    public BiquadCascadeFilter(BiquadCascade cascade) {
+        Objects.requireNonNull(cascade);
+
+        coefficients = cascade.coefficients.clone();
+        state = new double[cascade.sections() * 2];
+    }
+
+    @Override
+    public double process(double sample) {
+        double value = sample;
+
+        for (int section = 0, offset = 0; section < state.length / 2; section++, offset += BiquadCascade.STRIDE) {
+            int stateOffset = section * 2;
+
+            value += dcOffset;
+
+            double output = coefficients[offset] * value + state[stateOffset];
+
+            state[stateOffset] = coefficients[offset + 1] * value + coefficients[offset + 3] * output + state[stateOffset + 1];
+            state[stateOffset + 1] = coefficients[offset + 2] * value + coefficients[offset + 4] * output;
+
+            value = output;
+        }
+
+        if (denormalProtection == DenormalProtection.FLUSH_TO_ZERO)
+            flushState();
+
+        return value;
+    }
+
+    @Override
+    public void process(double[] in, int off, double[] out, int outOff, int len) {
+        IirFilter.checkBounds(in, off, out, outOff, len);
+
+        int sections = state.length / 2;
+
+        if (sections == 0) {
+            System.arraycopy(in, off, out, outOff, len);
+            return;
+        }
+
+        // the first section reads the input; the remaining sections then work in place on the output
+        double[] source = in;
+        int sourceOffset = off;
+
+        boolean flush = denormalProtection == DenormalProtection.FLUSH_TO_ZERO;
+
+        for (int section = 0; section < sections; section++) {
+            int offset = section * BiquadCascade.STRIDE;
+
+            double a0 = coefficients[offset];
+            double a1 = coefficients[offset + 1];
+            double a2 = coefficients[offset + 2];
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            double s1 = state[section * 2];
+            double s2 = state[section * 2 + 1];
+
+            for (int index = 0; index < len; index++) {
+                double sample = source[sourceOffset + index] + dcOffset;
+
+                double output = a0 * sample + s1;
+
+                s1 = a1 * sample + b1 * output + s2;
+                s2 = a2 * sample + b2 * output;
+
+                if (flush) {
+                    if (Math.abs(s1) < DenormalProtection.THRESHOLD)
+                        s1 = 0;
+
+                    if (Math.abs(s2) < DenormalProtection.THRESHOLD)
+                        s2 = 0;
+                }
+
+                out[outOff + index] = output;
+            }
+
+            state[section * 2] = s1;
+            state[section * 2 + 1] = s2;
+
+            source = out;
+            sourceOffset = outOff;
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (int index = 0; index < state.length; index++)
+            state[index] = 0;
+    }
+
+    @Override
+    public void setSteadyState(double input) {
+        double value = input;
+
+        for (int section = 0, offset = 0; section < state.length / 2; section++, offset += BiquadCascade.STRIDE) {
+            double a0 = coefficients[offset];
+            double a1 = coefficients[offset + 1];
+            double a2 = coefficients[offset + 2];
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            double output = value * (a0 + a1 + a2) / (1 - b1 - b2);
+
+            state[section * 2 + 1] = a2 * value + b2 * output;
+            state[section * 2] = a1 * value + b1 * output + state[section * 2 + 1];
+
+            value = output;
+        }
+    }
+
+    void flushState() {
+        for (int index = 0; index < state.length; index++)
+            if (Math.abs(state[index]) < DenormalProtection.THRESHOLD)
+                state[index] = 0;
+    }
+
+    /**
+     * Select how the filter keeps its state out of the subnormal range as its output decays
+     *
+     * @param denormalProtection the protection strategy
+     */
+    public void setDenormalProtection(DenormalProtection denormalProtection) {
+        this.denormalProtection = Objects.requireNonNull(denormalProtection);
+        this.dcOffset = denormalProtection.offset();
+    }
+
+    public DenormalProtection getDenormalProtection() {
+        return denormalProtection;
+    }
+
+    /**
+     * @return the number of second order sections in the cascade
+     */
+    public int sections() {
+        return state.length / 2;
+    }
+}
@@ -10,20 +10,88 @@ public class ButterworthCoefficientCalculator {
 
 
 
-    ButterworthCoefficientCalculator() {
+    public ButterworthCoefficientCalculator() {
     }
 
-    public void computeLowpassCoefficients(int poles, double cutoffFreq) {
+    PolePairTransformer createPolePairTransformer() {
+        return new NullPolePairTransformer();
+    }
+
+    public RecursionCoefficients computeLowpassCoefficients(int poles, double cutoffFreq) {
 
         if ((poles & 1) != 0) poles++;
 
         RecursionCoefficients recursionCoefficients = new LowPassRecursionCoefficients(poles);
 
-        for (int polePair = 0; polePair < poles / 2; polePair++) {
-            LowPassPolePairCoefficientSet coefficientSet = new LowPassPolePairCoefficientSet(poles, polePair, cutoffFreq);
+        for (PolePairCoefficientSet coefficientSet : computeLowpassSections(poles, cutoffFreq))
+            recursionCoefficients.applyCoefficientSet(coefficientSet);
+
+        recursionCoefficients.adjustGain();
+
+        return recursionCoefficients;
+    }
+
+    public RecursionCoefficients computeHighpassCoefficients(int poles, double cutoffFreq) {
+
+        if ((poles & 1) != 0) poles++;
+
+        RecursionCoefficients recursionCoefficients = new HighPassRecursionCoefficients(poles);
 
+        for (PolePairCoefficientSet coefficientSet : computeHighpassSections(poles, cutoffFreq))
             recursionCoefficients.applyCoefficientSet(coefficientSet);
-        }
+
+        recursionCoefficients.adjustGain();
+
+        return recursionCoefficients;
     }
 
+    /**
+     * Compute a low pass design as a cascade of second order sections (one per pole pair)
+     *
+     * @param poles the number of poles (rounded up to an even number)
+     * @param cutoffFreq the cutoff frequency as a fraction of the sampling rate
+     * @return the cascade
+     */
+    public BiquadCascade computeLowpassCascade(int poles, double cutoffFreq) {
+
+        if ((poles & 1) != 0) poles++;
+
+        return new BiquadCascade(computeLowpassSections(poles, cutoffFreq));
+    }
+
+    /**
+     * Compute a high pass design as a cascade of second order sections (one per pole pair)
+     *
+     * @param poles the number of poles (rounded up to an even number)
+     * @param cutoffFreq the cutoff frequency as a fraction of the sampling rate
+     * @return the cascade
+     */
+    public BiquadCascade computeHighpassCascade(int poles, double cutoffFreq) {
+
+        if ((poles & 1) != 0) poles++;
+
+        return new BiquadCascade(computeHighpassSections(poles, cutoffFreq));
+    }
+
+    PolePairCoefficientSet[] computeLowpassSections(int poles, double cutoffFreq) {
+        PolePairTransformer polePairTransformer = createPolePairTransformer();
+
+        PolePairCoefficientSet[] sections = new PolePairCoefficientSet[poles / 2];
+
+        for (int polePair = 0; polePair < poles / 2; polePair++)
+            sections[polePair] = new LowPassPolePairCoefficientSet(poles, polePair, cutoffFreq, polePairTransformer);
+
+        return sections;
+    }
+
+    PolePairCoefficientSet[] computeHighpassSections(int poles, double cutoffFreq) {
+        PolePairTransformer polePairTransformer = createPolePairTransformer();
+
+        PolePairCoefficientSet[] sections = new PolePairCoefficientSet[poles / 2];
+
+        for (int polePair = 0; polePair < poles / 2; polePair++)
+            sections[polePair] = new HighPassPolePairCoefficientSet(poles, polePair, cutoffFreq, polePairTransformer);
+
+        return sections;
+    }
 }
@@ -0,0 +1,27 @@
+package com.hstclair.dsp;
+
+/**
+ * Computes Chebyshev designs by warping the Butterworth pole locations onto an ellipse
+ *
+ * @author hstclair
+ * @since 10/17/26 10:55 AM
+ */
+public class ChebyshevCoefficientCalculator extends ButterworthCoefficientCalculator {
+
+    final double percentRipple;
+
+    /**
+     * @param percentRipple the passband ripple, in percent (e.g. 0.5)
+     */
+    public ChebyshevCoefficientCalculator(double percentRipple) {
+        if (percentRipple <= 0 || percentRipple >= 100)
+            throw new IllegalArgumentException("percentRipple must be in the range (0, 100)");
+
+        this.percentRipple = percentRipple;
+    }
+
+    @Override
+    PolePairTransformer createPolePairTransformer() {
+        return new ChebyshevPolePairTransformer(percentRipple);
+    }
+}
@@ -13,7 +13,7 @@ public class ChebyshevPolePairTransformer implements PolePairTransformer {
 
     @Override
     public PolePair transform(PolePair polePair, int poles) {
-        final double es = 1/Math.sqrt(100 / Math.pow(100 - percentRipple, 2) - 1);
+        final double es = 1/Math.sqrt(Math.pow(100 / (100 - percentRipple), 2) - 1);
         final double essqr = Math.pow(es, 2);
 
         final double pvx = Math.exp(Math.log(es + Math.sqrt(essqr + 1)) / poles);
@@ -0,0 +1,236 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Second order section coefficients for a family of designs (one type, order and ripple) precomputed on a grid of
+ * cutoff frequencies, for filters whose cutoff is modulated at run time.
+ *
+ * The grid points are spaced logarithmically between the minimum and maximum cutoff.  Looking up a cutoff linearly
+ * interpolates each section's coefficients between the two neighbouring grid points (in log frequency) and then
+ * renormalizes the section to unity passband gain.  Lookups do not allocate and involve no transcendental functions
+ * beyond a single logarithm.  Because the region of (b1, b2) for which a section is stable is convex, interpolating
+ * between two stable designs always yields a stable section.
+ *
+ * @author hstclair
+ * @since 10/17/26 8:00 PM
+ */
+public class CoefficientTable {
+
+    static final int BYTES_PER_COEFFICIENT = 8;
+
+    final FilterType type;
+    final int poles;
+    final double percentRipple;
+
+    final double minCutoff;
+    final double maxCutoff;
+
+    final int points;
+    final int rowLength;
+
+    final double logMinCutoff;
+    final double scale;
+
+    /** row <i>i</i> holds the cascade coefficients for the <i>i</i>th grid cutoff */
+    final double[] table;
+
+    /**
+     * @param type the filter type
+     * @param poles the number of poles (odd requests are rounded up to the next even number)
+     * @param percentRipple the passband ripple; zero for Butterworth designs
+     * @param minCutoff the lowest cutoff in the table, as a fraction of the sampling rate
+     * @param maxCutoff the highest cutoff in the table, as a fraction of the sampling rate
+     * @param points the number of grid points (at least 2)
+     */
+    public CoefficientTable(FilterType type, int poles, double percentRipple, double minCutoff, double maxCutoff, int points) {
+        Objects.requireNonNull(type);
+
+        if (!(minCutoff > 0 && minCutoff < maxCutoff && maxCutoff < .5))
+            throw new IllegalArgumentException("cutoffs must satisfy 0 < minCutoff < maxCutoff < 0.5");
+
+        if (poles <= 0)
+            throw new IllegalArgumentException("poles must be positive");
+
+        if (points < 2)
+            throw new IllegalArgumentException("points must be at least 2");
+
+        this.type = type;
+        this.poles = (poles & 1) != 0 ? poles + 1 : poles;
+        this.percentRipple = percentRipple;
+        this.minCutoff = minCutoff;
+        this.maxCutoff = maxCutoff;
+        this.points = points;
+
+        logMinCutoff = Math.log(minCutoff);
+        scale = (points - 1) / (Math.log(maxCutoff) - logMinCutoff);
+
+        rowLength = this.poles / 2 * BiquadCascade.STRIDE;
+
+        if (points > Integer.MAX_VALUE / rowLength)
+            throw new IllegalArgumentException("too many points");
+
+        table = new double[points * rowLength];
+
+        for (int point = 0; point < points; point++)
+            System.arraycopy(exact(gridCutoff(point)).coefficients, 0, table, point * rowLength, rowLength);
+    }
+
+    /**
+     * Create a table with as many grid points as fit within a memory budget
+     *
+     * @param maxBytes the largest number of bytes the table may occupy
+     */
+    public static CoefficientTable withMemoryBudget(FilterType type, int poles, double percentRipple, double minCutoff, double maxCutoff, long maxBytes) {
+        if (poles <= 0)
+            throw new IllegalArgumentException("poles must be positive");
+
+        int sections = (poles + 1) / 2;
+        long rowBytes = (long) sections * BiquadCascade.STRIDE * BYTES_PER_COEFFICIENT;
+
+        long points = Math.min(maxBytes / rowBytes, Integer.MAX_VALUE / (sections * BiquadCascade.STRIDE));
+
+        if (points < 2)
+            throw new IllegalArgumentException("maxBytes is too small to hold two grid points");
+
+        return new CoefficientTable(type, poles, percentRipple, minCutoff, maxCutoff, (int) points);
+    }
+
+    BiquadCascade exact(double cutoff) {
+        return new FilterSpec(type, poles, cutoff, percentRipple).designCascade();
+    }
+
+    double gridCutoff(int point) {
+        // pin the end points so rounding cannot push them outside (0, 0.5)
+        if (point == 0)
+            return minCutoff;
+
+        if (point == points - 1)
+            return maxCutoff;
+
+        return Math.exp(logMinCutoff + point / scale);
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int sections() {
+        return rowLength / BiquadCascade.STRIDE;
+    }
+
+    /**
+     * @return the number of bytes occupied by the coefficient grid
+     */
+    public long memoryBytes() {
+        return (long) table.length * BYTES_PER_COEFFICIENT;
+    }
+
+    /**
+     * Interpolate the cascade coefficients for a cutoff.  Cutoffs outside the table's range are clamped to it.
+     *
+     * @param cutoff the cutoff frequency, as a fraction of the sampling rate
+     * @param coefficients receives the coefficients { a0, a1, a2, b1, b2 } of each section in turn
+     */
+    public void interpolate(double cutoff, double[] coefficients) {
+        if (coefficients.length < rowLength)
+            throw new IllegalArgumentException("coefficients must hold " + rowLength + " values");
+
+        double position = (Math.log(cutoff) - logMinCutoff) * scale;
+
+        if (!(position > 0))
+            position = 0;
+        else if (position > points - 1)
+            position = points - 1;
+
+        int lower = Math.min((int) position, points - 2);
+        double fraction = position - lower;
+
+        int lowerOffset = lower * rowLength;
+        int upperOffset = lowerOffset + rowLength;
+
+        for (int offset = 0; offset < rowLength; offset += BiquadCascade.STRIDE) {
+            for (int index = 0; index < BiquadCascade.STRIDE; index++) {
+                double low = table[lowerOffset + offset + index];
+
+                coefficients[offset + index] = low + (table[upperOffset + offset + index] - low) * fraction;
+            }
+
+            normalize(coefficients, offset);
+        }
+    }
+
+    /**
+     * Restore unity gain at DC (low pass) or at Nyquist (high pass), as {@link PolePairCoefficientSet} does
+     */
+    void normalize(double[] coefficients, int offset) {
+        double a0 = coefficients[offset];
+        double a1 = coefficients[offset + 1];
+        double a2 = coefficients[offset + 2];
+        double b1 = coefficients[offset + 3];
+        double b2 = coefficients[offset + 4];
+
+        double gain = type == FilterType.LOWPASS ?
+                (a0 + a1 + a2) / (1 - b1 - b2) :
+                (a0 - a1 + a2) / (1 + b1 - b2);
+
+        coefficients[offset] = a0 / gain;
+        coefficients[offset + 1] = a1 / gain;
+        coefficients[offset + 2] = a2 / gain;
+    }
+
+    /**
+     * Retune a running filter in place, preserving its state.  The filter must have been built from a design with
+     * the same number of sections as this table.
+     *
+     * @param filter the filter to retune
+     * @param cutoff the new cutoff frequency
+     */
+    public void update(BiquadCascadeFilter filter, double cutoff) {
+        if (filter.coefficients.length != rowLength)
+            throw new IllegalArgumentException("filter has " + filter.sections() + " sections; expected " + sections());
+
+        interpolate(cutoff, filter.coefficients);
+    }
+
+    /**
+     * @param cutoff the cutoff frequency
+     * @return a new cascade with the interpolated coefficients for the cutoff
+     */
+    public BiquadCascade getCascade(double cutoff) {
+        double[] coefficients = new double[rowLength];
+
+        interpolate(cutoff, coefficients);
+
+        return new BiquadCascade(coefficients);
+    }
+
+    /**
+     * Compare interpolated coefficients with exact designs at points between the grid points
+     *
+     * @param probesPerInterval the number of cutoffs checked within each grid interval
+     * @return the largest absolute difference between any interpolated and exact coefficient
+     */
+    public double maxInterpolationError(int probesPerInterval) {
+        if (probesPerInterval <= 0)
+            throw new IllegalArgumentException("probesPerInterval must be positive");
+
+        double[] interpolated = new double[rowLength];
+        double error = 0;
+
+        for (int point = 0; point < points - 1; point++) {
+            for (int probe = 1; probe <= probesPerInterval; probe++) {
+                double cutoff = Math.exp(logMinCutoff + (point + (double) probe / (probesPerInterval + 1)) / scale);
+
+                interpolate(cutoff, interpolated);
+
+                double[] expected = exact(cutoff).coefficients;
+
+                for (int index = 0; index < rowLength; index++)
+                    error = Math.max(error, Math.abs(interpolated[index] - expected[index]));
+            }
+        }
+
+        return error;
+    }
+}
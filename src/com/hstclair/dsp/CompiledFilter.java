@@ -0,0 +1,87 @@
+package com.hstclair.dsp;
+
+/**
+ * Streaming runtime for a design compiled by {@link KernelCompiler}.  The design is held as a list of transposed
+ * direct form II stages (one per section of a cascade, or a single stage for a direct form design); the kernel does
+ * the filtering and this class owns the delay line.
+ *
+ * @author hstclair
+ * @since 10/18/26 1:20 AM
+ */
+class CompiledFilter implements DigitalFilter {
+
+    final FilterKernel kernel;
+
+    /** the numerator a[0..n] of each stage */
+    final double[][] numerators;
+
+    /** the feedback coefficients b[1..n] of each stage (b[0] is unused) */
+    final double[][] feedbacks;
+
+    final double[] state;
+
+    final double[] sample = new double[1];
+
+    CompiledFilter(FilterKernel kernel, double[][] numerators, double[][] feedbacks) {
+        this.kernel = kernel;
+        this.numerators = numerators;
+        this.feedbacks = feedbacks;
+
+        state = new double[KernelCompiler.states(numerators)];
+    }
+
+    @Override
+    public double process(double sample) {
+        this.sample[0] = sample;
+
+        kernel.process(this.sample, 0, this.sample, 0, 1, state);
+
+        return this.sample[0];
+    }
+
+    @Override
+    public void process(double[] in, int off, double[] out, int outOff, int len) {
+        IirFilter.checkBounds(in, off, out, outOff, len);
+
+        kernel.process(in, off, out, outOff, len, state);
+    }
+
+    @Override
+    public void reset() {
+        for (int index = 0; index < state.length; index++)
+            state[index] = 0;
+    }
+
+    @Override
+    public void setSteadyState(double input) {
+        double value = input;
+        int offset = 0;
+
+        for (int stage = 0; stage < numerators.length; stage++) {
+            double[] a = numerators[stage];
+            double[] b = feedbacks[stage];
+
+            int order = a.length - 1;
+
+            double sigmaa = 0;
+            double sigmab = 0;
+
+            for (int index = 0; index <= order; index++) {
+                sigmaa += a[index];
+                sigmab += index > 0 ? b[index] : 0;
+            }
+
+            double output = value * sigmaa / (1 - sigmab);
+
+            double sum = 0;
+
+            for (int index = order; index > 0; index--) {
+                sum += a[index] * value + b[index] * output;
+                state[offset + index - 1] = sum;
+            }
+
+            offset += order;
+            value = output;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A filter whose design can be replaced while it runs, without locks and without allocating on the processing
+ * thread.
+ *
+ * A control thread builds the runtime for the new design (all allocation happens there) and publishes it through an
+ * atomic reference.  The processing thread picks it up at the start of its next block, primes it with the steady
+ * state for the most recent input sample, and then runs the old and new filters side by side, crossfading linearly
+ * from the old output to the new over a configurable number of samples.  Designs published during a crossfade are
+ * picked up once it completes; if several are published in the meantime only the latest is used.
+ *
+ * @author hstclair
+ * @since 10/17/26 7:20 PM
+ */
+public class CrossfadingFilter implements DigitalFilter {
+
+    static final int SCRATCH_SIZE = 256;
+
+    final int fadeSamples;
+
+    final AtomicReference<DigitalFilter> pending = new AtomicReference<>();
+
+    /** the filter being faded out, or null once a fade completes */
+    DigitalFilter previous;
+    DigitalFilter current;
+
+    int fadeRemaining;
+
+    double lastInput;
+
+    final double[] scratch = new double[SCRATCH_SIZE];
+
+    /**
+     * @param initial the filter to start with
+     * @param fadeSamples the length of each crossfade, in samples (0 switches designs instantly)
+     */
+    public CrossfadingFilter(DigitalFilter initial, int fadeSamples) {
+        this.current = Objects.requireNonNull(initial);
+
+        if (fadeSamples < 0)
+            throw new IllegalArgumentException("fadeSamples must not be negative");
+
+        this.fadeSamples = fadeSamples;
+    }
+
+    public CrossfadingFilter(BiquadCascade initial, int fadeSamples) {
+        this(new BiquadCascadeFilter(initial), fadeSamples);
+    }
+
+    public CrossfadingFilter(RecursionCoefficients initial, int fadeSamples) {
+        this(new IirFilter(initial), fadeSamples);
+    }
+
+    /**
+     * Publish a replacement filter.  May be called from any thread; never blocks.  The filter must not be used by the
+     * caller once it has been published.
+     *
+     * @param next the replacement
+     */
+    public void swap(DigitalFilter next) {
+        pending.set(Objects.requireNonNull(next));
+    }
+
+    /**
+     * Publish a replacement design, building its runtime on the calling thread
+     */
+    public void setCascade(BiquadCascade cascade) {
+        swap(new BiquadCascadeFilter(cascade));
+    }
+
+    /**
+     * Publish a replacement design, building its runtime on the calling thread
+     */
+    public void setCoefficients(RecursionCoefficients recursionCoefficients) {
+        swap(new IirFilter(recursionCoefficients));
+    }
+
+    /**
+     * @return true if a crossfade is in progress
+     */
+    public boolean isFading() {
+        return fadeRemaining > 0;
+    }
+
+    void acceptPending() {
+        DigitalFilter next = pending.getAndSet(null);
+
+        if (next == null)
+            return;
+
+        next.setSteadyState(lastInput);
+
+        if (fadeSamples == 0) {
+            current = next;
+            return;
+        }
+
+        previous = current;
+        current = next;
+        fadeRemaining = fadeSamples;
+    }
+
+    @Override
+    public double process(double sample) {
+        if (fadeRemaining == 0)
+            acceptPending();
+
+        lastInput = sample;
+
+        if (fadeRemaining == 0)
+            return current.process(sample);
+
+        double faded = previous.process(sample);
+        double output = current.process(sample);
+
+        double weight = (double) (fadeSamples - --fadeRemaining) / fadeSamples;
+
+        if (fadeRemaining == 0)
+            previous = null;
+
+        return faded + (output - faded) * weight;
+    }
+
+    @Override
+    public void process(double[] in, int off, double[] out, int outOff, int len) {
+        IirFilter.checkBounds(in, off, out, outOff, len);
+
+        int done = 0;
+
+        while (done < len) {
+            if (fadeRemaining == 0)
+                acceptPending();
+
+            int remaining = len - done;
+
+            // read the last input before an in-place block overwrites it
+            if (fadeRemaining == 0) {
+                lastInput = in[off + len - 1];
+                current.process(in, off + done, out, outOff + done, remaining);
+                return;
+            }
+
+            int count = Math.min(Math.min(remaining, fadeRemaining), scratch.length);
+
+            lastInput = in[off + done + count - 1];
+
+            previous.process(in, off + done, scratch, 0, count);
+            current.process(in, off + done, out, outOff + done, count);
+
+            int position = fadeSamples - fadeRemaining;
+
+            for (int index = 0; index < count; index++) {
+                double weight = (double) (position + index + 1) / fadeSamples;
+                double faded = scratch[index];
+
+                out[outOff + done + index] = faded + (out[outOff + done + index] - faded) * weight;
+            }
+
+            fadeRemaining -= count;
+
+            if (fadeRemaining == 0)
+                previous = null;
+
+            done += count;
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (fadeRemaining > 0) {
+            fadeRemaining = 0;
+            previous = null;
+        }
+
+        lastInput = 0;
+        current.reset();
+    }
+
+    @Override
+    public void setSteadyState(double input) {
+        if (fadeRemaining > 0) {
+            fadeRemaining = 0;
+            previous = null;
+        }
+
+        lastInput = input;
+        current.setSteadyState(input);
+    }
+}
@@ -0,0 +1,190 @@
+package com.hstclair.dsp;
+
+/**
+ * Reduces the sampling rate of a signal by an integer factor, low pass filtering it first to prevent aliasing.
+ *
+ * The anti-alias filter runs in its {@link PartialFractionExpansion parallel form}, with each single pole branch
+ * rewritten by clustered look-ahead so that its recursion spans a whole decimation period:
+ *
+ *   y[n] = p^M y[n - M] + sum for k &lt; M of r p^k x[n - k]
+ *
+ * Only the outputs that are kept are ever computed.  Each input sample costs one real by complex multiply-add per
+ * branch and the recursion runs once per output, whereas filtering at the full rate and discarding samples runs the
+ * whole cascade for every input.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:40 PM
+ */
+public class Decimator {
+
+    final int factor;
+
+    final double direct;
+    final double[] weights;
+
+    /** p^factor for each branch */
+    final double[] stepRe;
+    final double[] stepIm;
+
+    /** r p^(factor - 1 - t), the weight of the input at position t within a period, stored at [branch * factor + t] */
+    final double[] tapRe;
+    final double[] tapIm;
+
+    final double[] stateRe;
+    final double[] stateIm;
+
+    /** the partial sums of the current period */
+    final double[] sumRe;
+    final double[] sumIm;
+
+    /** the position of the next input within the current period */
+    int phase;
+
+    /**
+     * Create a decimator with a Butterworth anti-alias filter whose cutoff is chosen from the factor
+     *
+     * @param factor the decimation factor
+     */
+    public Decimator(int factor) {
+        this(factor, new ButterworthCoefficientCalculator().computeLowpassCascade(RationalResampler.DEFAULT_POLES, RationalResampler.antiAliasCutoff(1, factor)));
+    }
+
+    /**
+     * @param factor the decimation factor
+     * @param antiAlias the anti-alias filter, designed for the input rate
+     */
+    public Decimator(int factor, BiquadCascade antiAlias) {
+        if (factor <= 0)
+            throw new IllegalArgumentException("factor must be positive");
+
+        this.factor = factor;
+
+        PartialFractionExpansion expansion = new PartialFractionExpansion(antiAlias);
+
+        int branches = expansion.branches();
+
+        direct = expansion.direct;
+        weights = expansion.weights.clone();
+
+        stepRe = new double[branches];
+        stepIm = new double[branches];
+        expansion.powers(factor, stepRe, stepIm, 0, 1);
+
+        double[] powerRe = new double[branches * factor];
+        double[] powerIm = new double[branches * factor];
+
+        for (int k = 0; k < factor; k++)
+            expansion.powers(k, powerRe, powerIm, k, factor);
+
+        tapRe = new double[branches * factor];
+        tapIm = new double[branches * factor];
+
+        for (int branch = 0; branch < branches; branch++) {
+            double rRe = expansion.residueRe[branch];
+            double rIm = expansion.residueIm[branch];
+
+            for (int t = 0; t < factor; t++) {
+                int power = branch * factor + factor - 1 - t;
+
+                tapRe[branch * factor + t] = rRe * powerRe[power] - rIm * powerIm[power];
+                tapIm[branch * factor + t] = rRe * powerIm[power] + rIm * powerRe[power];
+            }
+        }
+
+        stateRe = new double[branches];
+        stateIm = new double[branches];
+        sumRe = new double[branches];
+        sumIm = new double[branches];
+    }
+
+    public int getFactor() {
+        return factor;
+    }
+
+    /**
+     * @param inputs a number of input samples
+     * @return the largest number of output samples {@link #process} can produce from that many inputs
+     */
+    public int outputCapacity(int inputs) {
+        return (inputs + factor - 1) / factor;
+    }
+
+    /**
+     * Decimate a block of input.  The output for a period is produced when its last input sample arrives.
+     *
+     * @param in the input samples
+     * @param off the offset of the first input sample
+     * @param len the number of input samples
+     * @param out receives the output samples; must have room for {@link #outputCapacity(int) outputCapacity(len)}
+     * @param outOff the offset at which to store the first output sample
+     * @return the number of output samples produced
+     */
+    public int process(double[] in, int off, int len, double[] out, int outOff) {
+        IirFilter.checkBounds(in, off, in, off, len);
+
+        if (outOff < 0 || out.length - outOff < outputCapacity(len))
+            throw new IndexOutOfBoundsException("out has room for fewer than " + outputCapacity(len) + " samples");
+
+        int branches = stateRe.length;
+        int produced = 0;
+        int index = 0;
+
+        while (index < len) {
+            int count = Math.min(factor - phase, len - index);
+            int start = off + index;
+
+            boolean complete = phase + count == factor;
+
+            double output = complete ? direct * in[start + count - 1] : 0;
+
+            for (int branch = 0; branch < branches; branch++) {
+                double re = sumRe[branch];
+                double im = sumIm[branch];
+
+                int tap = branch * factor + phase;
+
+                for (int position = 0; position < count; position++) {
+                    double sample = in[start + position];
+
+                    re += tapRe[tap + position] * sample;
+                    im += tapIm[tap + position] * sample;
+                }
+
+                if (complete) {
+                    double nextRe = stepRe[branch] * stateRe[branch] - stepIm[branch] * stateIm[branch] + re;
+                    double nextIm = stepRe[branch] * stateIm[branch] + stepIm[branch] * stateRe[branch] + im;
+
+                    stateRe[branch] = nextRe;
+                    stateIm[branch] = nextIm;
+
+                    output += weights[branch] * nextRe;
+
+                    re = 0;
+                    im = 0;
+                }
+
+                sumRe[branch] = re;
+                sumIm[branch] = im;
+            }
+
+            if (complete)
+                out[outOff + produced++] = output;
+
+            phase = complete ? 0 : phase + count;
+            index += count;
+        }
+
+        return produced;
+    }
+
+    public void reset() {
+        for (int branch = 0; branch < stateRe.length; branch++) {
+            stateRe[branch] = 0;
+            stateIm[branch] = 0;
+            sumRe[branch] = 0;
+            sumIm[branch] = 0;
+        }
+
+        phase = 0;
+    }
+}
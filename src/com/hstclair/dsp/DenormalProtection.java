@@ -0,0 +1,29 @@
+package com.hstclair.dsp;
+
+/**
+ * Strategies for keeping a filter's decaying state out of the subnormal range, where arithmetic on most x86
+ * processors is many times slower than usual.
+ *
+ * @author hstclair
+ * @since 10/17/26 3:30 PM
+ */
+public enum DenormalProtection {
+    /** no protection */
+    NONE,
+
+    /** add {@link #OFFSET} to the input of every stage, so that decaying state settles far above the subnormal range */
+    DC_OFFSET,
+
+    /** zero any state variable whose magnitude falls below {@link #THRESHOLD} */
+    FLUSH_TO_ZERO;
+
+    /** the offset injected by {@link #DC_OFFSET}; some 600 dB below full scale */
+    public static final double OFFSET = 1e-30;
+
+    /** the magnitude below which {@link #FLUSH_TO_ZERO} discards state */
+    public static final double THRESHOLD = 1e-30;
+
+    double offset() {
+        return this == DC_OFFSET ? OFFSET : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hstclair.dsp;
+
+/**
+ * A streaming filter runtime.  Implementations hold their delay-line state in preallocated primitive arrays and do
+ * not allocate while processing.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:15 AM
+ */
+public interface DigitalFilter {
+
+    /**
+     * Filter a single sample
+     *
+     * @param sample the next input sample
+     * @return the next output sample
+     */
+    double process(double sample);
+
+    /**
+     * Filter a block of samples.  <i>in</i> and <i>out</i> may refer to the same array (and offset) to filter in place.
+     *
+     * @param in the input samples
+     * @param off the offset of the first input sample
+     * @param out the array receiving the filtered samples
+     * @param outOff the offset of the first output sample
+     * @param len the number of samples to filter
+     */
+    void process(double[] in, int off, double[] out, int outOff, int len);
+
+    /**
+     * Clear the delay line, returning the filter to its initial (at rest) condition
+     */
+    void reset();
+
+    /**
+     * Set the delay line to the state the filter would settle into after a long run of constant input, so that
+     * filtering begins without a start-up transient.  setSteadyState(0) is equivalent to reset().
+     *
+     * @param input the constant input level
+     */
+    void setSteadyState(double input);
+}
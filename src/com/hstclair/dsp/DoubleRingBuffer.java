@@ -0,0 +1,138 @@
+package com.hstclair.dsp;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free, single producer / single consumer ring buffer of primitive doubles.
+ *
+ * Alongside each sample the buffer carries the {@link System#nanoTime()} at which it was offered, so that the
+ * consumer can measure end-to-end latency.  The producer and consumer positions live in the same
+ * {@link AtomicLongArray}, 128 bytes apart, so that they never share a cache line; each side also keeps a cached
+ * copy of the other's position and only rereads it when the cached value says the buffer is full (or empty).
+ *
+ * Exactly one thread may call {@link #offer} and exactly one thread may call {@link #poll}.
+ *
+ * @author hstclair
+ * @since 10/17/26 6:00 PM
+ */
+public class DoubleRingBuffer {
+
+    static final int PRODUCER = 7;
+    static final int CONSUMER = 23;
+    static final int CACHED = 8;
+
+    final double[] samples;
+    final long[] timestamps;
+
+    final int mask;
+
+    /** the producer (tail) and consumer (head) positions, separated by padding */
+    final AtomicLongArray positions = new AtomicLongArray(32);
+
+    /** the consumer position as last seen by the producer, padded on both sides (producer thread only) */
+    final long[] producerCache = new long[16];
+
+    /** the producer position as last seen by the consumer, padded on both sides (consumer thread only) */
+    final long[] consumerCache = new long[16];
+
+    /**
+     * @param capacity the number of samples the buffer holds; rounded up to a power of two
+     */
+    public DoubleRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("capacity must be in the range [1, 2^30]");
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity)
+            size <<= 1;
+
+        samples = new double[size];
+        timestamps = new long[size];
+        mask = size - 1;
+    }
+
+    public int capacity() {
+        return samples.length;
+    }
+
+    /**
+     * Copy as many samples as will fit into the buffer.  Producer thread only.
+     *
+     * @param source the samples
+     * @param off the offset of the first sample
+     * @param len the number of samples to offer
+     * @param timestamp the time (from {@link System#nanoTime()}) to associate with the samples
+     * @return the number of samples accepted
+     */
+    public int offer(double[] source, int off, int len, long timestamp) {
+        long producer = positions.get(PRODUCER);
+        long consumer = producerCache[CACHED];
+
+        if (producer + len - consumer > samples.length)
+            producerCache[CACHED] = consumer = positions.get(CONSUMER);
+
+        int count = (int) Math.min(len, samples.length - (producer - consumer));
+
+        if (count <= 0)
+            return 0;
+
+        int index = (int) producer & mask;
+        int first = Math.min(count, samples.length - index);
+
+        System.arraycopy(source, off, samples, index, first);
+        System.arraycopy(source, off + first, samples, 0, count - first);
+
+        for (int offset = 0; offset < count; offset++)
+            timestamps[(index + offset) & mask] = timestamp;
+
+        // publish: the ordered store makes the samples visible before the new position
+        positions.lazySet(PRODUCER, producer + count);
+
+        return count;
+    }
+
+    /**
+     * Copy up to <i>len</i> samples out of the buffer.  Consumer thread only.
+     *
+     * @param destination the array receiving the samples
+     * @param off the offset of the first sample
+     * @param len the largest number of samples to take
+     * @param stamps the array receiving each sample's timestamp (may be null)
+     * @return the number of samples taken
+     */
+    public int poll(double[] destination, int off, int len, long[] stamps) {
+        long consumer = positions.get(CONSUMER);
+        long producer = consumerCache[CACHED];
+
+        if (consumer + len > producer)
+            consumerCache[CACHED] = producer = positions.get(PRODUCER);
+
+        int count = (int) Math.min(len, producer - consumer);
+
+        if (count <= 0)
+            return 0;
+
+        int index = (int) consumer & mask;
+        int first = Math.min(count, samples.length - index);
+
+        System.arraycopy(samples, index, destination, off, first);
+        System.arraycopy(samples, 0, destination, off + first, count - first);
+
+        if (stamps != null) {
+            System.arraycopy(timestamps, index, stamps, off, first);
+            System.arraycopy(timestamps, 0, stamps, off + first, count - first);
+        }
+
+        positions.lazySet(CONSUMER, consumer + count);
+
+        return count;
+    }
+
+    /**
+     * @return an estimate of the number of samples waiting to be consumed
+     */
+    public int size() {
+        return (int) (positions.get(PRODUCER) - positions.get(CONSUMER));
+    }
+}
@@ -0,0 +1,140 @@
+package com.hstclair.dsp;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Filters raw PCM files through memory mapped buffers, so that the file contents never sit on the heap.
+ *
+ * The input is mapped one window at a time (along with the matching window of the output) and each window is
+ * filtered in chunks of a fixed number of frames.  Samples are interleaved by channel, and each channel has its own
+ * filter, whose state carries over from one chunk (and window) to the next.  The filters are reset at the start of
+ * each file, so every file is filtered as if from silence.  The only heap memory used is a preallocated chunk of
+ * doubles per channel.
+ *
+ * @author hstclair
+ * @since 10/17/26 4:20 PM
+ */
+public class FileFilterPipeline {
+
+    static final int DEFAULT_CHUNK_FRAMES = 8192;
+
+    /** the largest window mapped at one time */
+    static final long WINDOW_BYTES = 1L << 26;
+
+    final DigitalFilter[] filters;
+
+    final SampleFormat format;
+    final ByteOrder byteOrder;
+
+    final int chunkFrames;
+
+    final double[][] chunk;
+
+    long windowBytes = WINDOW_BYTES;
+
+    public FileFilterPipeline(SampleFormat format, ByteOrder byteOrder, DigitalFilter... filters) {
+        this(format, byteOrder, DEFAULT_CHUNK_FRAMES, filters);
+    }
+
+    /**
+     * @param format the sample encoding of both the input and output files
+     * @param byteOrder the byte order of both the input and output files
+     * @param chunkFrames the number of frames filtered at a time
+     * @param filters one filter per interleaved channel
+     */
+    public FileFilterPipeline(SampleFormat format, ByteOrder byteOrder, int chunkFrames, DigitalFilter... filters) {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(byteOrder);
+        Objects.requireNonNull(filters);
+
+        if (filters.length == 0)
+            throw new IllegalArgumentException("At least one filter is required");
+
+        if (chunkFrames <= 0)
+            throw new IllegalArgumentException("chunkFrames must be positive");
+
+        for (DigitalFilter filter : filters)
+            Objects.requireNonNull(filter);
+
+        this.format = format;
+        this.byteOrder = byteOrder;
+        this.chunkFrames = chunkFrames;
+        this.filters = filters.clone();
+
+        chunk = new double[filters.length][chunkFrames];
+    }
+
+    /**
+     * Filter <i>input</i> into <i>output</i>, replacing any existing output file.  The filters are reset first.
+     *
+     * @param input the raw input samples
+     * @param output the file to receive the filtered samples, which must not be the input
+     * @return the number of frames filtered
+     * @throws IOException if either file cannot be read or written
+     */
+    public long filter(Path input, Path output) throws IOException {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(output);
+
+        // opening the output truncates it, which would destroy the input before it is read
+        if (Files.exists(output) && Files.isSameFile(input, output))
+            throw new IllegalArgumentException("input and output must be different files");
+
+        for (DigitalFilter filter : filters)
+            filter.reset();
+
+        int frameBytes = format.bytes() * filters.length;
+
+        try (FileChannel source = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel destination = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            long size = source.size();
+
+            if (size % frameBytes != 0)
+                throw new IllegalArgumentException(String.format("Input size %d is not a whole number of %d byte frames", size, frameBytes));
+
+            long window = Math.max(windowBytes / frameBytes, 1) * frameBytes;
+
+            for (long position = 0; position < size; position += window) {
+                long length = Math.min(window, size - position);
+
+                MappedByteBuffer in = source.map(FileChannel.MapMode.READ_ONLY, position, length);
+                MappedByteBuffer out = destination.map(FileChannel.MapMode.READ_WRITE, position, length);
+
+                in.order(byteOrder);
+                out.order(byteOrder);
+
+                filterWindow(in, out, (int) (length / frameBytes));
+            }
+
+            return size / frameBytes;
+        }
+    }
+
+    void filterWindow(MappedByteBuffer in, MappedByteBuffer out, int frames) {
+        int channels = filters.length;
+
+        for (int start = 0; start < frames; start += chunkFrames) {
+            int count = Math.min(chunkFrames, frames - start);
+
+            for (int frame = 0; frame < count; frame++)
+                for (int channel = 0; channel < channels; channel++)
+                    chunk[channel][frame] = format.read(in);
+
+            for (int channel = 0; channel < channels; channel++)
+                filters[channel].process(chunk[channel], 0, chunk[channel], 0, count);
+
+            for (int frame = 0; frame < count; frame++)
+                for (int channel = 0; channel < channels; channel++)
+                    format.write(out, chunk[channel][frame]);
+        }
+    }
+}
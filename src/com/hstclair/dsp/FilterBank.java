@@ -0,0 +1,323 @@
+package com.hstclair.dsp;
+
+/**
+ * A bank of octave or fractional octave band-pass filters run over a single input signal, accumulating the mean
+ * square (energy) of each band's output.
+ *
+ * Each band is the cascade of a Butterworth high pass design at its lower edge and a Butterworth low pass design at
+ * its upper edge, scaled to unity gain at the band's center.  The coefficients and state of every band are kept in
+ * two flat arrays and all bands are advanced together, sample by sample, so that each input sample is read once and
+ * the whole bank stays resident in cache.
+ *
+ * When decimation is enabled the lower octaves run at reduced sampling rates: the signal passes through a chain of
+ * anti-alias low pass filters, each followed by decimation by two, and every band is evaluated at the lowest rate
+ * which still leaves its upper edge well inside the anti-alias passband.  Each octave down therefore costs half as
+ * much as the one above it.
+ *
+ * @author hstclair
+ * @since 10/17/26 9:20 PM
+ */
+public class FilterBank {
+
+    /** the cutoff of the anti-alias filter preceding each decimation, as a fraction of the higher rate */
+    static final double ANTI_ALIAS_CUTOFF = .2;
+    static final int ANTI_ALIAS_POLES = 8;
+
+    /**
+     * a band may run at a decimated rate only if its upper edge lies below this fraction of that rate (half the
+     * anti-alias cutoff, measured at the higher rate), where aliased components are attenuated by some 100 dB
+     */
+    static final double MAX_DECIMATED_EDGE = ANTI_ALIAS_CUTOFF;
+
+    final double[] centers;
+    final double[] lowerEdges;
+    final double[] upperEdges;
+
+    /** the decimation level (the rate is divided by 2^level) of each band */
+    final int[] bandLevels;
+
+    final double[] coefficients;
+    final int[] sectionOffsets;
+    final double[] state;
+
+    final int levels;
+
+    /** the first band whose level is at most the index; level L runs bands levelFirstBand[L] to levelFirstBand[L - 1] */
+    final int[] levelFirstBand;
+
+    final double[] antiAlias;
+    final double[] antiAliasState;
+    final int[] phases;
+
+    final double[] sumSquares;
+    final long[] counts;
+
+    /**
+     * @param bandsPerOctave the number of bands per octave (1 for octave bands, 3 for third octave bands)
+     * @param lowestCenter the center frequency of the lowest band, as a fraction of the sampling rate
+     * @param highestCenter the largest center frequency allowed, as a fraction of the sampling rate
+     * @param poles the number of poles of each edge's design (odd requests are rounded up to the next even number)
+     * @param decimate true to run the lower octaves at reduced sampling rates
+     */
+    public FilterBank(int bandsPerOctave, double lowestCenter, double highestCenter, int poles, boolean decimate) {
+        if (bandsPerOctave <= 0)
+            throw new IllegalArgumentException("bandsPerOctave must be positive");
+
+        double halfBand = Math.pow(2, .5 / bandsPerOctave);
+
+        if (!(lowestCenter > 0 && lowestCenter <= highestCenter && highestCenter * halfBand < .5))
+            throw new IllegalArgumentException("band edges must lie within (0, 0.5)");
+
+        int bands = (int) Math.floor(Math.log(highestCenter / lowestCenter) / Math.log(2) * bandsPerOctave + 1e-9) + 1;
+
+        centers = new double[bands];
+        lowerEdges = new double[bands];
+        upperEdges = new double[bands];
+        bandLevels = new int[bands];
+
+        int maxLevel = 0;
+
+        for (int band = 0; band < bands; band++) {
+            centers[band] = lowestCenter * Math.pow(2, (double) band / bandsPerOctave);
+            lowerEdges[band] = centers[band] / halfBand;
+            upperEdges[band] = centers[band] * halfBand;
+
+            int level = 0;
+
+            while (decimate && upperEdges[band] * (2L << level) <= MAX_DECIMATED_EDGE)
+                level++;
+
+            bandLevels[band] = level;
+            maxLevel = Math.max(maxLevel, level);
+        }
+
+        levels = maxLevel + 1;
+
+        // bands are in ascending frequency order, so their levels never increase
+        levelFirstBand = new int[levels];
+
+        for (int level = 0; level < levels; level++) {
+            int first = 0;
+
+            while (bandLevels[first] > level)
+                first++;
+
+            levelFirstBand[level] = first;
+        }
+
+        ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+        double[][] designs = new double[bands][];
+        sectionOffsets = new int[bands + 1];
+
+        for (int band = 0; band < bands; band++) {
+            double scale = 1L << bandLevels[band];
+
+            BiquadCascade highPass = calculator.computeHighpassCascade(poles, lowerEdges[band] * scale);
+            BiquadCascade lowPass = calculator.computeLowpassCascade(poles, upperEdges[band] * scale);
+
+            double[] design = new double[highPass.coefficients.length + lowPass.coefficients.length];
+
+            System.arraycopy(highPass.coefficients, 0, design, 0, highPass.coefficients.length);
+            System.arraycopy(lowPass.coefficients, 0, design, highPass.coefficients.length, lowPass.coefficients.length);
+
+            double gain = magnitude(design, centers[band] * scale);
+
+            for (int index = 0; index < 3; index++)
+                design[index] /= gain;
+
+            designs[band] = design;
+            sectionOffsets[band + 1] = sectionOffsets[band] + design.length / BiquadCascade.STRIDE;
+        }
+
+        coefficients = new double[sectionOffsets[bands] * BiquadCascade.STRIDE];
+
+        for (int band = 0; band < bands; band++)
+            System.arraycopy(designs[band], 0, coefficients, sectionOffsets[band] * BiquadCascade.STRIDE, designs[band].length);
+
+        state = new double[sectionOffsets[bands] * 2];
+
+        antiAlias = calculator.computeLowpassCascade(ANTI_ALIAS_POLES, ANTI_ALIAS_CUTOFF).coefficients;
+        antiAliasState = new double[(levels - 1) * antiAlias.length / BiquadCascade.STRIDE * 2];
+        phases = new int[levels];
+
+        sumSquares = new double[bands];
+        counts = new long[bands];
+    }
+
+    /**
+     * Create a bank of base two third octave bands, centered on 1 kHz, covering a range of audio frequencies
+     *
+     * @param sampleRate the sampling rate in Hz
+     * @param lowestHz the lowest center frequency, in Hz (rounded to the nearest standard band)
+     * @param highestHz the highest center frequency, in Hz (rounded to the nearest standard band)
+     * @param decimate true to run the lower octaves at reduced sampling rates
+     */
+    public static FilterBank thirdOctave(double sampleRate, double lowestHz, double highestHz, boolean decimate) {
+        double lowestIndex = Math.round(3 * Math.log(lowestHz / 1000) / Math.log(2));
+        double highestIndex = Math.round(3 * Math.log(highestHz / 1000) / Math.log(2));
+
+        double lowest = 1000 * Math.pow(2, lowestIndex / 3) / sampleRate;
+        double highest = 1000 * Math.pow(2, highestIndex / 3) / sampleRate;
+
+        return new FilterBank(3, lowest, highest, 6, decimate);
+    }
+
+    /**
+     * @return the magnitude of the frequency response of a cascade at a frequency
+     */
+    static double magnitude(double[] cascade, double frequency) {
+        double omega = 2 * Math.PI * frequency;
+
+        double cos1 = Math.cos(omega);
+        double sin1 = Math.sin(omega);
+        double cos2 = Math.cos(2 * omega);
+        double sin2 = Math.sin(2 * omega);
+
+        double magnitude = 1;
+
+        for (int offset = 0; offset < cascade.length; offset += BiquadCascade.STRIDE) {
+            double numeratorRe = cascade[offset] + cascade[offset + 1] * cos1 + cascade[offset + 2] * cos2;
+            double numeratorIm = -cascade[offset + 1] * sin1 - cascade[offset + 2] * sin2;
+
+            double denominatorRe = 1 - cascade[offset + 3] * cos1 - cascade[offset + 4] * cos2;
+            double denominatorIm = cascade[offset + 3] * sin1 + cascade[offset + 4] * sin2;
+
+            magnitude *= Math.hypot(numeratorRe, numeratorIm) / Math.hypot(denominatorRe, denominatorIm);
+        }
+
+        return magnitude;
+    }
+
+    public int bands() {
+        return centers.length;
+    }
+
+    /**
+     * @return the center frequency of a band, as a fraction of the sampling rate
+     */
+    public double getCenter(int band) {
+        return centers[band];
+    }
+
+    public double getLowerEdge(int band) {
+        return lowerEdges[band];
+    }
+
+    public double getUpperEdge(int band) {
+        return upperEdges[band];
+    }
+
+    /**
+     * @return the number of times the sampling rate is halved before a band is evaluated
+     */
+    public int getLevel(int band) {
+        return bandLevels[band];
+    }
+
+    /**
+     * Filter a block of samples through every band, accumulating each band's energy
+     *
+     * @param in the input samples
+     * @param off the offset of the first sample
+     * @param len the number of samples
+     */
+    public void process(double[] in, int off, int len) {
+        IirFilter.checkBounds(in, off, in, off, len);
+
+        int antiAliasSections = antiAlias.length / BiquadCascade.STRIDE;
+
+        for (int index = 0; index < len; index++) {
+            double sample = in[off + index];
+
+            processBands(levelFirstBand[0], centers.length, sample);
+
+            for (int level = 1; level < levels; level++) {
+                sample = processCascade(antiAlias, 0, antiAliasState, (level - 1) * antiAliasSections, antiAliasSections, sample);
+
+                // keep every other sample of the level above
+                if ((phases[level] ^= 1) == 0)
+                    break;
+
+                processBands(levelFirstBand[level], levelFirstBand[level - 1], sample);
+            }
+        }
+    }
+
+    void processBands(int firstBand, int endBand, double sample) {
+        for (int band = firstBand; band < endBand; band++) {
+            int firstSection = sectionOffsets[band];
+
+            double output = processCascade(coefficients, firstSection, state, firstSection, sectionOffsets[band + 1] - firstSection, sample);
+
+            sumSquares[band] += output * output;
+            counts[band]++;
+        }
+    }
+
+    static double processCascade(double[] coefficients, int firstSection, double[] state, int firstStateSection, int sections, double sample) {
+        double value = sample;
+
+        int offset = firstSection * BiquadCascade.STRIDE;
+        int stateOffset = firstStateSection * 2;
+
+        for (int section = 0; section < sections; section++, offset += BiquadCascade.STRIDE, stateOffset += 2) {
+            double output = coefficients[offset] * value + state[stateOffset];
+
+            state[stateOffset] = coefficients[offset + 1] * value + coefficients[offset + 3] * output + state[stateOffset + 1];
+            state[stateOffset + 1] = coefficients[offset + 2] * value + coefficients[offset + 4] * output;
+
+            value = output;
+        }
+
+        return value;
+    }
+
+    /**
+     * @return the mean square of a band's output since the accumulators were last reset
+     */
+    public double getMeanSquare(int band) {
+        return counts[band] == 0 ? 0 : sumSquares[band] / counts[band];
+    }
+
+    /**
+     * @return the root mean square of a band's output since the accumulators were last reset
+     */
+    public double getRms(int band) {
+        return Math.sqrt(getMeanSquare(band));
+    }
+
+    /**
+     * @param rms receives the root mean square of each band's output
+     */
+    public void getRms(double[] rms) {
+        for (int band = 0; band < centers.length; band++)
+            rms[band] = getRms(band);
+    }
+
+    /**
+     * Start a new measurement interval, leaving the filters' state untouched
+     */
+    public void resetAccumulators() {
+        for (int band = 0; band < centers.length; band++) {
+            sumSquares[band] = 0;
+            counts[band] = 0;
+        }
+    }
+
+    /**
+     * Clear the filters' state and the accumulators
+     */
+    public void reset() {
+        for (int index = 0; index < state.length; index++)
+            state[index] = 0;
+
+        for (int index = 0; index < antiAliasState.length; index++)
+            antiAliasState[index] = 0;
+
+        for (int level = 0; level < levels; level++)
+            phases[level] = 0;
+
+        resetAccumulators();
+    }
+}
@@ -0,0 +1,142 @@
+package com.hstclair.dsp;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Designs many filters at once by fanning the specs out across a {@link ForkJoinPool}.  Results are always
+ * returned in the order of the supplied specs.
+ *
+ * @author hstclair
+ * @since 10/17/26 1:05 PM
+ */
+public class FilterDesignBatch implements AutoCloseable {
+
+    /** the number of designs below which a task stops splitting and designs sequentially */
+    static final int THRESHOLD = 32;
+
+    final ForkJoinPool pool;
+
+    final boolean ownsPool;
+
+    /**
+     * Create a batch designer which runs on the common pool
+     */
+    public FilterDesignBatch() {
+        pool = ForkJoinPool.commonPool();
+        ownsPool = false;
+    }
+
+    /**
+     * Create a batch designer which runs on its own pool
+     *
+     * @param parallelism the number of worker threads
+     */
+    public FilterDesignBatch(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("parallelism must be positive");
+
+        pool = new ForkJoinPool(parallelism);
+        ownsPool = true;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public RecursionCoefficients[] designCoefficients(List<FilterSpec> specs) {
+        Objects.requireNonNull(specs);
+
+        FilterSpec[] specArray = specs.toArray(new FilterSpec[0]);
+        RecursionCoefficients[] results = new RecursionCoefficients[specArray.length];
+
+        invoke(specArray.length, (index) -> results[index] = specArray[index].designCoefficients());
+
+        return results;
+    }
+
+    public RecursionCoefficients[] designCoefficients(Stream<FilterSpec> specs) {
+        Objects.requireNonNull(specs);
+
+        return designCoefficients(specs.collect(Collectors.toList()));
+    }
+
+    public BiquadCascade[] designCascades(List<FilterSpec> specs) {
+        Objects.requireNonNull(specs);
+
+        FilterSpec[] specArray = specs.toArray(new FilterSpec[0]);
+        BiquadCascade[] results = new BiquadCascade[specArray.length];
+
+        invoke(specArray.length, (index) -> results[index] = specArray[index].designCascade());
+
+        return results;
+    }
+
+    /**
+     * Design every spec, writing the coefficients directly into a packed structure of arrays
+     *
+     * @param specs the designs
+     * @return the packed coefficients, in the order of <i>specs</i>
+     */
+    public PackedRecursionCoefficients designPacked(List<FilterSpec> specs) {
+        Objects.requireNonNull(specs);
+
+        FilterSpec[] specArray = specs.toArray(new FilterSpec[0]);
+
+        // the size of every design is known up front, so the tasks can write their results in place
+        int[] offsets = new int[specArray.length + 1];
+
+        for (int index = 0; index < specArray.length; index++)
+            offsets[index + 1] = offsets[index] + specArray[index].getPoles() + 1;
+
+        PackedRecursionCoefficients results = new PackedRecursionCoefficients(offsets);
+
+        invoke(specArray.length, (index) -> results.set(index, specArray[index].designCoefficients()));
+
+        return results;
+    }
+
+    void invoke(int count, IntConsumer design) {
+        if (count > 0)
+            pool.invoke(new DesignTask(design, 0, count));
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool)
+            pool.shutdown();
+    }
+
+    static class DesignTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final IntConsumer design;
+        final int start;
+        final int end;
+
+        DesignTask(IntConsumer design, int start, int end) {
+            this.design = design;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= THRESHOLD) {
+                for (int index = start; index < end; index++)
+                    design.accept(index);
+
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+
+            invokeAll(new DesignTask(design, start, middle), new DesignTask(design, middle, end));
+        }
+    }
+}
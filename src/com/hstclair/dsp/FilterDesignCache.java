@@ -0,0 +1,131 @@
+package com.hstclair.dsp;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread safe, bounded, least-recently-used cache of filter designs keyed by {@link FilterSpec}.
+ *
+ * Designs are computed outside of the cache lock, so a slow miss never blocks hits on other threads.  The designs
+ * returned are shared between all callers and must be treated as immutable (neither {@link RecursionCoefficients}
+ * nor {@link BiquadCascade} exposes a way to modify them outside of this package).
+ *
+ * @author hstclair
+ * @since 10/17/26 12:35 PM
+ */
+public class FilterDesignCache {
+
+    static final class Design {
+        final RecursionCoefficients coefficients;
+        final BiquadCascade cascade;
+
+        Design(FilterSpec spec) {
+            coefficients = spec.designCoefficients();
+            cascade = spec.designCascade();
+        }
+    }
+
+    final int capacity;
+
+    final LinkedHashMap<FilterSpec, Design> entries;
+
+    final AtomicLong hits = new AtomicLong();
+    final AtomicLong misses = new AtomicLong();
+    final AtomicLong evictions = new AtomicLong();
+
+    public FilterDesignCache(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be positive");
+
+        this.capacity = capacity;
+
+        entries = new LinkedHashMap<FilterSpec, Design>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilterSpec, Design> eldest) {
+                if (size() <= FilterDesignCache.this.capacity)
+                    return false;
+
+                evictions.incrementAndGet();
+
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @param spec the design
+     * @return the (shared) direct form coefficients of the design
+     */
+    public RecursionCoefficients getCoefficients(FilterSpec spec) {
+        return lookup(spec).coefficients;
+    }
+
+    /**
+     * @param spec the design
+     * @return the (shared) second order section cascade of the design
+     */
+    public BiquadCascade getCascade(FilterSpec spec) {
+        return lookup(spec).cascade;
+    }
+
+    Design lookup(FilterSpec spec) {
+        Objects.requireNonNull(spec);
+
+        Design design;
+
+        synchronized (entries) {
+            design = entries.get(spec);
+        }
+
+        if (design != null) {
+            hits.incrementAndGet();
+            return design;
+        }
+
+        misses.incrementAndGet();
+
+        Design computed = new Design(spec);
+
+        synchronized (entries) {
+            // another thread may have computed the same design in the meantime; keep the first so it stays shared
+            design = entries.get(spec);
+
+            if (design != null)
+                return design;
+
+            entries.put(spec, computed);
+        }
+
+        return computed;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * One signal to be filtered by a {@link ParallelFilterExecutor}, together with its design and, once the job has run,
+ * its output and latency.
+ *
+ * @author hstclair
+ * @since 10/18/26 2:10 AM
+ */
+public final class FilterJob {
+
+    final double[] signal;
+    final BiquadCascade design;
+    final double[] output;
+
+    int segments;
+    long latencyNanos = -1;
+
+    /**
+     * @param signal the samples to filter
+     * @param design the design
+     */
+    public FilterJob(double[] signal, BiquadCascade design) {
+        this(signal, design, new double[Objects.requireNonNull(signal).length]);
+    }
+
+    /**
+     * @param signal the samples to filter
+     * @param design the design
+     * @param output receives the filtered samples; it may be <i>signal</i> itself, in which case the job is never
+     *               split
+     */
+    public FilterJob(double[] signal, BiquadCascade design, double[] output) {
+        Objects.requireNonNull(signal);
+        Objects.requireNonNull(design);
+        Objects.requireNonNull(output);
+
+        if (output.length < signal.length)
+            throw new IllegalArgumentException("output is shorter than signal");
+
+        this.signal = signal;
+        this.design = design;
+        this.output = output;
+    }
+
+    public double[] getSignal() {
+        return signal;
+    }
+
+    public BiquadCascade getDesign() {
+        return design;
+    }
+
+    public double[] getOutput() {
+        return output;
+    }
+
+    /**
+     * @return the number of segments the job was split into when it last ran (0 if it has not run)
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return the time in nanoseconds from the start of the batch to the completion of this job (-1 if it has not run)
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hstclair.dsp;
+
+/**
+ * A block filtering loop specialized for one design by {@link KernelCompiler}.  Kernels hold no state of their own;
+ * the caller supplies the delay line, so a single kernel may be shared by any number of filters running the design.
+ *
+ * This interface is public only so that generated classes, which are defined by their own class loader, can
+ * implement it.
+ *
+ * @author hstclair
+ * @since 10/18/26 12:50 AM
+ */
+public interface FilterKernel {
+
+    /**
+     * Filter a block of samples
+     *
+     * @param in the input samples
+     * @param off the offset of the first input sample
+     * @param out receives the output samples (may be the same array as <i>in</i>)
+     * @param outOff the offset at which to store the first output sample
+     * @param len the number of samples
+     * @param state the delay line, updated in place
+     */
+    void process(double[] in, int off, double[] out, int outOff, int len, double[] state);
+}
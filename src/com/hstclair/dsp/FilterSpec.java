@@ -0,0 +1,129 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Identifies a filter design: its type, number of poles, cutoff frequency and (for Chebyshev designs) its passband
+ * ripple.  A ripple of zero denotes a Butterworth design.
+ *
+ * @author hstclair
+ * @since 10/17/26 12:20 PM
+ */
+public final class FilterSpec {
+
+    final FilterType type;
+    final int poles;
+    final double cutoffFreq;
+    final double percentRipple;
+
+    FilterSpec(FilterType type, int poles, double cutoffFreq, double percentRipple) {
+        Objects.requireNonNull(type);
+
+        if (poles <= 0)
+            throw new IllegalArgumentException("poles must be positive");
+
+        if (!(cutoffFreq > 0 && cutoffFreq < .5))
+            throw new IllegalArgumentException("cutoffFreq must be in the range (0, 0.5)");
+
+        if (!(percentRipple >= 0 && percentRipple < 100))
+            throw new IllegalArgumentException("percentRipple must be in the range [0, 100)");
+
+        this.type = type;
+        this.poles = (poles & 1) != 0 ? poles + 1 : poles;
+        this.cutoffFreq = cutoffFreq;
+        this.percentRipple = percentRipple;
+    }
+
+    public static FilterSpec butterworth(FilterType type, int poles, double cutoffFreq) {
+        return new FilterSpec(type, poles, cutoffFreq, 0);
+    }
+
+    public static FilterSpec chebyshev(FilterType type, int poles, double cutoffFreq, double percentRipple) {
+        if (percentRipple <= 0)
+            throw new IllegalArgumentException("percentRipple must be positive");
+
+        return new FilterSpec(type, poles, cutoffFreq, percentRipple);
+    }
+
+    public FilterType getType() {
+        return type;
+    }
+
+    /**
+     * @return the number of poles (odd requests are rounded up to the next even number)
+     */
+    public int getPoles() {
+        return poles;
+    }
+
+    public double getCutoffFreq() {
+        return cutoffFreq;
+    }
+
+    public double getPercentRipple() {
+        return percentRipple;
+    }
+
+    ButterworthCoefficientCalculator createCalculator() {
+        if (percentRipple == 0)
+            return new ButterworthCoefficientCalculator();
+
+        return new ChebyshevCoefficientCalculator(percentRipple);
+    }
+
+    /**
+     * @return the direct form coefficients for this design
+     */
+    public RecursionCoefficients designCoefficients() {
+        ButterworthCoefficientCalculator calculator = createCalculator();
+
+        if (type == FilterType.LOWPASS)
+            return calculator.computeLowpassCoefficients(poles, cutoffFreq);
+
+        return calculator.computeHighpassCoefficients(poles, cutoffFreq);
+    }
+
+    /**
+     * @return the second order section cascade for this design
+     */
+    public BiquadCascade designCascade() {
+        ButterworthCoefficientCalculator calculator = createCalculator();
+
+        if (type == FilterType.LOWPASS)
+            return calculator.computeLowpassCascade(poles, cutoffFreq);
+
+        return calculator.computeHighpassCascade(poles, cutoffFreq);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+
+        result = 31 * result + poles;
+        result = 31 * result + Double.hashCode(cutoffFreq);
+        result = 31 * result + Double.hashCode(percentRipple);
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this)
+            return true;
+
+        if (!(other instanceof FilterSpec))
+            return false;
+
+        FilterSpec otherSpec = (FilterSpec) other;
+
+        return type == otherSpec.type &&
+                poles == otherSpec.poles &&
+                Double.compare(cutoffFreq, otherSpec.cutoffFreq) == 0 &&
+                Double.compare(percentRipple, otherSpec.percentRipple) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s poles=%d cutoff=%s", percentRipple == 0 ? "Butterworth" : "Chebyshev(" + percentRipple + "%)", type, poles, cutoffFreq);
+    }
+}
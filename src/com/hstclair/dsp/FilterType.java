@@ -0,0 +1,10 @@
+package com.hstclair.dsp;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 12:20 PM
+ */
+public enum FilterType {
+    LOWPASS,
+    HIGHPASS
+}
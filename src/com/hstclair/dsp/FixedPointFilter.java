@@ -0,0 +1,129 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Fixed point runtime for a set of {@link QuantizedCoefficients}.  Samples are 16 bit (Q15) or 32 bit (Q31)
+ * integers; each section is run in direct form I with a 64 bit accumulator, and its result is rounded back to the
+ * sample width before being passed on to the next section.
+ *
+ * When saturation is enabled, results outside of the sample range are clamped to the largest representable value;
+ * otherwise they wrap as two's complement integers would.  The accumulator itself can overflow only if the sum of
+ * |coefficient| * full scale over a section exceeds 2^63, which is not a concern for second order sections.
+ *
+ * @author hstclair
+ * @since 10/17/26 2:10 PM
+ */
+public class FixedPointFilter {
+
+    final int[] a;
+    final int[] b;
+
+    final int[] orders;
+    final int[] aOffsets;
+
+    final int fractionalBits;
+    final long rounding;
+
+    final boolean saturate;
+
+    final int[] xHistory;
+    final int[] yHistory;
+
+    public FixedPointFilter(QuantizedCoefficients coefficients, boolean saturate) {
+        Objects.requireNonNull(coefficients);
+
+        a = coefficients.a;
+        b = coefficients.b;
+        orders = coefficients.orders;
+        aOffsets = coefficients.aOffsets;
+
+        fractionalBits = coefficients.fractionalBits;
+        rounding = 1L << (fractionalBits - 1);
+
+        this.saturate = saturate;
+
+        xHistory = new int[a.length];
+        yHistory = new int[b.length];
+    }
+
+    /**
+     * Filter a block of Q15 samples.  <i>in</i> and <i>out</i> may refer to the same array (and offset).
+     */
+    public void process(short[] in, int off, short[] out, int outOff, int len) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+
+        if (len < 0 || off < 0 || outOff < 0 || off + len > in.length || outOff + len > out.length)
+            throw new IndexOutOfBoundsException("Invalid block: off=" + off + ", outOff=" + outOff + ", len=" + len);
+
+        for (int index = 0; index < len; index++)
+            out[outOff + index] = (short) processSample(in[off + index], 16);
+    }
+
+    /**
+     * Filter a block of Q31 samples.  <i>in</i> and <i>out</i> may refer to the same array (and offset).
+     */
+    public void process(int[] in, int off, int[] out, int outOff, int len) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+
+        if (len < 0 || off < 0 || outOff < 0 || off + len > in.length || outOff + len > out.length)
+            throw new IndexOutOfBoundsException("Invalid block: off=" + off + ", outOff=" + outOff + ", len=" + len);
+
+        for (int index = 0; index < len; index++)
+            out[outOff + index] = processSample(in[off + index], 32);
+    }
+
+    int processSample(int sample, int bits) {
+        int value = sample;
+
+        for (int section = 0; section < orders.length; section++) {
+            int order = orders[section];
+            int aOffset = aOffsets[section];
+            int bOffset = aOffset - section;
+
+            for (int index = order; index > 0; index--)
+                xHistory[aOffset + index] = xHistory[aOffset + index - 1];
+
+            xHistory[aOffset] = value;
+
+            long accumulator = rounding;
+
+            for (int index = 0; index <= order; index++)
+                accumulator += (long) a[aOffset + index] * xHistory[aOffset + index];
+
+            for (int index = 0; index < order; index++)
+                accumulator += (long) b[bOffset + index] * yHistory[bOffset + index];
+
+            value = limit(accumulator >> fractionalBits, bits);
+
+            for (int index = order - 1; index > 0; index--)
+                yHistory[bOffset + index] = yHistory[bOffset + index - 1];
+
+            if (order > 0)
+                yHistory[bOffset] = value;
+        }
+
+        return value;
+    }
+
+    int limit(long value, int bits) {
+        long max = (1L << (bits - 1)) - 1;
+        long min = -max - 1;
+
+        if (saturate)
+            return (int) Math.max(min, Math.min(max, value));
+
+        // wrap as a two's complement integer of the sample width
+        return (int) ((value << (64 - bits)) >> (64 - bits));
+    }
+
+    public void reset() {
+        for (int index = 0; index < xHistory.length; index++)
+            xHistory[index] = 0;
+
+        for (int index = 0; index < yHistory.length; index++)
+            yHistory[index] = 0;
+    }
+}
@@ -0,0 +1,324 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The magnitude, phase and group delay of a filter evaluated over a grid of frequencies.
+ *
+ * The transfer function is evaluated with primitive real and imaginary arrays and no intermediate objects.  Each
+ * polynomial in z^-1 is evaluated by Horner's rule with the loop over frequencies innermost, so that every step is the
+ * same short sequence of multiply-adds applied across contiguous arrays, which the JIT compiler can vectorize.  The
+ * group delay is computed analytically: a polynomial P(z^-1) = sum of c[k] z^-k has group delay
+ * Re( sum of k c[k] z^-k / P ), and the delay of a ratio or product of polynomials is the difference or sum of theirs.
+ *
+ * Frequencies are expressed as fractions of the sampling rate, the phase in radians in the range (-pi, pi] and the
+ * group delay in samples.  In parallel mode the grid is divided among the threads of the common fork/join pool.
+ *
+ * @author hstclair
+ * @since 10/17/26 11:30 PM
+ */
+public class FrequencyResponse {
+
+    /** the number of frequencies below which a parallel evaluation is no longer divided */
+    static final int THRESHOLD = 4096;
+
+    final double[] frequencies;
+    final double[] magnitude;
+    final double[] phase;
+    final double[] groupDelay;
+
+    FrequencyResponse(double[] frequencies) {
+        this.frequencies = Objects.requireNonNull(frequencies);
+
+        magnitude = new double[frequencies.length];
+        phase = new double[frequencies.length];
+        groupDelay = new double[frequencies.length];
+    }
+
+    public static FrequencyResponse of(RecursionCoefficients recursionCoefficients, double[] frequencies) {
+        return of(recursionCoefficients, frequencies, false);
+    }
+
+    /**
+     * Evaluate the response of a direct form design
+     *
+     * @param recursionCoefficients the design
+     * @param frequencies the frequencies, as fractions of the sampling rate
+     * @param parallel true to divide the evaluation among the threads of the common pool
+     */
+    public static FrequencyResponse of(RecursionCoefficients recursionCoefficients, double[] frequencies, boolean parallel) {
+        Objects.requireNonNull(recursionCoefficients);
+
+        double[] a = recursionCoefficients.a;
+
+        // y[n] = sum of a[k] x[n-k] + sum of b[k] y[n-k], so the denominator is -(sum of b[k] z^-k) with b[0] = -1
+        double[] denominator = new double[recursionCoefficients.b.length];
+
+        for (int index = 0; index < denominator.length; index++)
+            denominator[index] = -recursionCoefficients.b[index];
+
+        FrequencyResponse response = new FrequencyResponse(frequencies);
+
+        response.evaluate((from, to) -> response.evaluateDirect(a, denominator, from, to), parallel);
+
+        return response;
+    }
+
+    public static FrequencyResponse of(BiquadCascade cascade, double[] frequencies) {
+        return of(cascade, frequencies, false);
+    }
+
+    /**
+     * Evaluate the response of a second order section cascade
+     *
+     * @param cascade the design
+     * @param frequencies the frequencies, as fractions of the sampling rate
+     * @param parallel true to divide the evaluation among the threads of the common pool
+     */
+    public static FrequencyResponse of(BiquadCascade cascade, double[] frequencies, boolean parallel) {
+        Objects.requireNonNull(cascade);
+
+        double[] coefficients = cascade.coefficients;
+
+        FrequencyResponse response = new FrequencyResponse(frequencies);
+
+        response.evaluate((from, to) -> response.evaluateCascade(coefficients, from, to), parallel);
+
+        return response;
+    }
+
+    /**
+     * @param points the number of frequencies
+     * @return points frequencies evenly spaced from 0 to the Nyquist frequency (0.5) inclusive
+     */
+    public static double[] linearGrid(int points) {
+        if (points < 2)
+            throw new IllegalArgumentException("points must be at least 2");
+
+        double[] frequencies = new double[points];
+
+        for (int index = 0; index < points; index++)
+            frequencies[index] = .5 * index / (points - 1);
+
+        return frequencies;
+    }
+
+    interface RangeEvaluator {
+        void evaluate(int from, int to);
+    }
+
+    void evaluate(RangeEvaluator evaluator, boolean parallel) {
+        if (parallel && frequencies.length > THRESHOLD)
+            ForkJoinPool.commonPool().invoke(new RangeTask(evaluator, 0, frequencies.length));
+        else
+            evaluator.evaluate(0, frequencies.length);
+    }
+
+    /**
+     * Evaluate a polynomial in z^-1 and its ramp (sum of k c[k] z^-k) by Horner's rule across a range of frequencies
+     */
+    static void horner(double[] c, double[] cos, double[] sin, int count, double[] re, double[] im, double[] rampRe, double[] rampIm) {
+        int degree = c.length - 1;
+
+        for (int index = 0; index < count; index++) {
+            re[index] = c[degree];
+            im[index] = 0;
+            rampRe[index] = degree * c[degree];
+            rampIm[index] = 0;
+        }
+
+        for (int k = degree - 1; k >= 0; k--) {
+            double coefficient = c[k];
+            double ramp = k * coefficient;
+
+            // multiply by z^-1 = cos - j sin, then add the next coefficient
+            for (int index = 0; index < count; index++) {
+                double r = re[index];
+                double i = im[index];
+
+                re[index] = r * cos[index] + i * sin[index] + coefficient;
+                im[index] = i * cos[index] - r * sin[index];
+
+                r = rampRe[index];
+                i = rampIm[index];
+
+                rampRe[index] = r * cos[index] + i * sin[index] + ramp;
+                rampIm[index] = i * cos[index] - r * sin[index];
+            }
+        }
+    }
+
+    void evaluateDirect(double[] numerator, double[] denominator, int from, int to) {
+        int count = to - from;
+
+        double[] cos = new double[count];
+        double[] sin = new double[count];
+
+        for (int index = 0; index < count; index++) {
+            double omega = 2 * Math.PI * frequencies[from + index];
+
+            cos[index] = Math.cos(omega);
+            sin[index] = Math.sin(omega);
+        }
+
+        double[] numeratorRe = new double[count];
+        double[] numeratorIm = new double[count];
+        double[] numeratorRampRe = new double[count];
+        double[] numeratorRampIm = new double[count];
+
+        double[] denominatorRe = new double[count];
+        double[] denominatorIm = new double[count];
+        double[] denominatorRampRe = new double[count];
+        double[] denominatorRampIm = new double[count];
+
+        horner(numerator, cos, sin, count, numeratorRe, numeratorIm, numeratorRampRe, numeratorRampIm);
+        horner(denominator, cos, sin, count, denominatorRe, denominatorIm, denominatorRampRe, denominatorRampIm);
+
+        for (int index = 0; index < count; index++) {
+            double nRe = numeratorRe[index];
+            double nIm = numeratorIm[index];
+            double dRe = denominatorRe[index];
+            double dIm = denominatorIm[index];
+
+            double numeratorNorm = nRe * nRe + nIm * nIm;
+            double denominatorNorm = dRe * dRe + dIm * dIm;
+
+            magnitude[from + index] = Math.sqrt(numeratorNorm / denominatorNorm);
+
+            // arg(N / D) = arg(N conj(D))
+            phase[from + index] = Math.atan2(nIm * dRe - nRe * dIm, nRe * dRe + nIm * dIm);
+
+            groupDelay[from + index] = delay(numeratorRampRe[index], numeratorRampIm[index], nRe, nIm, numeratorNorm) -
+                    delay(denominatorRampRe[index], denominatorRampIm[index], dRe, dIm, denominatorNorm);
+        }
+    }
+
+    /**
+     * @return Re(ramp / value)
+     */
+    static double delay(double rampRe, double rampIm, double re, double im, double norm) {
+        return norm == 0 ? 0 : (rampRe * re + rampIm * im) / norm;
+    }
+
+    void evaluateCascade(double[] coefficients, int from, int to) {
+        int count = to - from;
+
+        double[] cos1 = new double[count];
+        double[] sin1 = new double[count];
+        double[] cos2 = new double[count];
+        double[] sin2 = new double[count];
+
+        double[] re = new double[count];
+        double[] im = new double[count];
+
+        for (int index = 0; index < count; index++) {
+            double omega = 2 * Math.PI * frequencies[from + index];
+
+            cos1[index] = Math.cos(omega);
+            sin1[index] = Math.sin(omega);
+            cos2[index] = cos1[index] * cos1[index] - sin1[index] * sin1[index];
+            sin2[index] = 2 * sin1[index] * cos1[index];
+
+            re[index] = 1;
+            magnitude[from + index] = 1;
+            groupDelay[from + index] = 0;
+        }
+
+        for (int offset = 0; offset < coefficients.length; offset += BiquadCascade.STRIDE) {
+            double a0 = coefficients[offset];
+            double a1 = coefficients[offset + 1];
+            double a2 = coefficients[offset + 2];
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            for (int index = 0; index < count; index++) {
+                // N = a0 + a1 z^-1 + a2 z^-2 and D = 1 - b1 z^-1 - b2 z^-2, with z^-k = cos(k w) - j sin(k w)
+                double nRe = a0 + a1 * cos1[index] + a2 * cos2[index];
+                double nIm = -a1 * sin1[index] - a2 * sin2[index];
+                double dRe = 1 - b1 * cos1[index] - b2 * cos2[index];
+                double dIm = b1 * sin1[index] + b2 * sin2[index];
+
+                double nRampRe = a1 * cos1[index] + 2 * a2 * cos2[index];
+                double nRampIm = -a1 * sin1[index] - 2 * a2 * sin2[index];
+                double dRampRe = -b1 * cos1[index] - 2 * b2 * cos2[index];
+                double dRampIm = b1 * sin1[index] + 2 * b2 * sin2[index];
+
+                double numeratorNorm = nRe * nRe + nIm * nIm;
+                double denominatorNorm = dRe * dRe + dIm * dIm;
+
+                magnitude[from + index] *= Math.sqrt(numeratorNorm / denominatorNorm);
+
+                groupDelay[from + index] += delay(nRampRe, nRampIm, nRe, nIm, numeratorNorm) - delay(dRampRe, dRampIm, dRe, dIm, denominatorNorm);
+
+                // accumulate the phase as the complex product of N conj(D), scaled by 1 / |D|^2 to keep it in range
+                double sRe = (nRe * dRe + nIm * dIm) / denominatorNorm;
+                double sIm = (nIm * dRe - nRe * dIm) / denominatorNorm;
+
+                double r = re[index];
+                double i = im[index];
+
+                re[index] = r * sRe - i * sIm;
+                im[index] = r * sIm + i * sRe;
+            }
+        }
+
+        for (int index = 0; index < count; index++)
+            phase[from + index] = Math.atan2(im[index], re[index]);
+    }
+
+    public double[] getFrequencies() {
+        return frequencies;
+    }
+
+    public double[] getMagnitude() {
+        return magnitude;
+    }
+
+    /**
+     * @return the magnitude at each frequency, in decibels
+     */
+    public double[] getMagnitudeDb() {
+        double[] result = new double[magnitude.length];
+
+        for (int index = 0; index < result.length; index++)
+            result[index] = 20 * Math.log10(magnitude[index]);
+
+        return result;
+    }
+
+    public double[] getPhase() {
+        return phase;
+    }
+
+    public double[] getGroupDelay() {
+        return groupDelay;
+    }
+
+    static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final RangeEvaluator evaluator;
+        final int start;
+        final int end;
+
+        RangeTask(RangeEvaluator evaluator, int start, int end) {
+            this.evaluator = evaluator;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= THRESHOLD) {
+                evaluator.evaluate(start, end);
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+
+            invokeAll(new RangeTask(evaluator, start, middle), new RangeTask(evaluator, middle, end));
+        }
+    }
+}
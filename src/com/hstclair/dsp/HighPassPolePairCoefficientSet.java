@@ -15,8 +15,15 @@ public class HighPassPolePairCoefficientSet extends PolePairCoefficientSet {
     }
 
     @Override
-    double computeKValue(double w) {
-        return -Math.cos(w/2 + 1/2) / Math.cos(w/2 - 1/2);
+    double computeGainAdjustment() {
+        // a[2] and b[2] are the undelayed terms, so the odd (once delayed) terms change sign at Nyquist
+        return (a[2] - a[1] + a[0]) / (1 + b[1] - b[0]);
+    }
+
+    @Override
+    double computeKValue(double cutoffFreq) {
+        double radians = 2 * Math.PI * cutoffFreq;
+        return -Math.cos(radians/2 + .5) / Math.cos(radians/2 - .5);
     }
 
     @Override
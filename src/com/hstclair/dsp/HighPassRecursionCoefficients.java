@@ -36,6 +36,7 @@ public class HighPassRecursionCoefficients extends RecursionCoefficients {
         signFlipper.reset();
         double sigmab = Arrays.stream(b).map(signFlipper::process).sum();
 
-        return sigmaa / (1 - sigmab);
+        // b[0] holds the -1 of the output term, so -sigmab is 1 - (b[1] + ... + b[n])
+        return sigmaa / -sigmab;
     }
 }
@@ -0,0 +1,160 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Streaming runtime for a recursive filter described by a set of {@link RecursionCoefficients}.
+ *
+ * The filter computes:
+ *
+ *   y[n] = a[0]x[n] + a[1]x[n-1] + ... + a[N]x[n-N] + b[1]y[n-1] + ... + b[N]y[n-N]
+ *
+ * using the transposed direct form II structure.  The delay line is held in a single preallocated primitive array
+ * so that no allocation takes place once the filter has been constructed.  Instances are not thread safe; each
+ * stream should use its own filter.
+ *
+ * @author hstclair
+ * @since 10/17/26 9:00 AM
+ */
+public class IirFilter implements DigitalFilter {
+
+    final double[] a;
+    final double[] b;
+
+    final double[] state;
+
+    DenormalProtection denormalProtection = DenormalProtection.NONE;
+    double dcOffset = 0;
+
+    public IirFilter(RecursionCoefficients recursionCoefficients) {
+        Objects.requireNonNull(recursionCoefficients);
+
+        int length = Math.min(recursionCoefficients.a.length, recursionCoefficients.b.length);
+
+        // b[0] holds the (negated) coefficient of the output term; normalize so that it is -1
+        double scale = -recursionCoefficients.b[0];
+
+        if (scale == 0)
+            throw new IllegalArgumentException("Output coefficient b[0] must be nonzero");
+
+        a = new double[length];
+        b = new double[length];
+
+        for (int index = 0; index < length; index++) {
+            a[index] = recursionCoefficients.a[index] / scale;
+            b[index] = recursionCoefficients.b[index] / scale;
+        }
+
+        state = new double[length];
+    }
+
+    @Override
+    public double process(double sample) {
+        int order = a.length - 1;
+
+        sample += dcOffset;
+
+        double output = a[0] * sample + state[0];
+
+        for (int index = 1; index < order; index++)
+            state[index - 1] = a[index] * sample + b[index] * output + state[index];
+
+        if (order > 0)
+            state[order - 1] = a[order] * sample + b[order] * output;
+
+        if (denormalProtection == DenormalProtection.FLUSH_TO_ZERO)
+            flushState();
+
+        return output;
+    }
+
+    @Override
+    public void process(double[] in, int off, double[] out, int outOff, int len) {
+        checkBounds(in, off, out, outOff, len);
+
+        int order = a.length - 1;
+
+        boolean flush = denormalProtection == DenormalProtection.FLUSH_TO_ZERO;
+
+        for (int sampleIndex = 0; sampleIndex < len; sampleIndex++) {
+            double sample = in[off + sampleIndex] + dcOffset;
+
+            double output = a[0] * sample + state[0];
+
+            for (int index = 1; index < order; index++)
+                state[index - 1] = a[index] * sample + b[index] * output + state[index];
+
+            if (order > 0)
+                state[order - 1] = a[order] * sample + b[order] * output;
+
+            if (flush)
+                flushState();
+
+            out[outOff + sampleIndex] = output;
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (int index = 0; index < state.length; index++)
+            state[index] = 0;
+    }
+
+    @Override
+    public void setSteadyState(double input) {
+        int order = a.length - 1;
+
+        double sigmaa = 0;
+        double sigmab = 0;
+
+        for (int index = 0; index <= order; index++) {
+            sigmaa += a[index];
+            sigmab += index > 0 ? b[index] : 0;
+        }
+
+        double output = input * sigmaa / (1 - sigmab);
+
+        // each delay element holds the sum of the terms still to come from the current input and output
+        double sum = 0;
+
+        for (int index = order; index > 0; index--) {
+            sum += a[index] * input + b[index] * output;
+            state[index - 1] = sum;
+        }
+    }
+
+    void flushState() {
+        for (int index = 0; index < state.length; index++)
+            if (Math.abs(state[index]) < DenormalProtection.THRESHOLD)
+                state[index] = 0;
+    }
+
+    /**
+     * Select how the filter keeps its state out of the subnormal range as its output decays
+     *
+     * @param denormalProtection the protection strategy
+     */
+    public void setDenormalProtection(DenormalProtection denormalProtection) {
+        this.denormalProtection = Objects.requireNonNull(denormalProtection);
+        this.dcOffset = denormalProtection.offset();
+    }
+
+    public DenormalProtection getDenormalProtection() {
+        return denormalProtection;
+    }
+
+    /**
+     * @return the order of the filter (the number of delay elements in use)
+     */
+    public int order() {
+        return a.length - 1;
+    }
+
+    static void checkBounds(double[] in, int off, double[] out, int outOff, int len) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+
+        if (len < 0 || off < 0 || outOff < 0 || off + len > in.length || outOff + len > out.length)
+            throw new IndexOutOfBoundsException("Invalid block: off=" + off + ", outOff=" + outOff + ", len=" + len);
+    }
+}
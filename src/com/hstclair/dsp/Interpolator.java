@@ -0,0 +1,32 @@
+package com.hstclair.dsp;
+
+/**
+ * Increases the sampling rate of a signal by an integer factor, low pass filtering it to remove the images
+ * introduced by zero insertion.  The zeros themselves are never filtered; see {@link RationalResampler}.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:50 PM
+ */
+public class Interpolator extends RationalResampler {
+
+    /**
+     * Create an interpolator with a Butterworth anti-image filter whose cutoff is chosen from the factor
+     *
+     * @param factor the interpolation factor
+     */
+    public Interpolator(int factor) {
+        super(factor, 1);
+    }
+
+    /**
+     * @param factor the interpolation factor
+     * @param antiImage the anti-image filter, designed for the output rate
+     */
+    public Interpolator(int factor, BiquadCascade antiImage) {
+        super(factor, 1, antiImage);
+    }
+
+    public int getFactor() {
+        return up;
+    }
+}
@@ -0,0 +1,567 @@
+package com.hstclair.dsp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles a finished design into a {@link FilterKernel} class generated at run time, with its coefficients baked in
+ * as constants and its section loop fully unrolled.
+ *
+ * A generic runtime loops over coefficient arrays whose length the JIT compiler cannot know, so it must reload every
+ * coefficient for every sample and cannot keep the delay line in registers.  A generated kernel holds each state
+ * variable in a local for the duration of a block, multiplies by constants, and omits terms whose coefficient is zero
+ * (or the multiplication when it is one).  The arithmetic is otherwise performed in the same order as
+ * {@link BiquadCascadeFilter} and {@link IirFilter}, so the results are identical.
+ *
+ * Kernels are emitted directly as class files (version 49, which needs no stack map frames), each defined by a class
+ * loader of its own so that it can be unloaded once no filter uses it.  The most recently used kernels are cached by
+ * design (up to {@link #CACHE_CAPACITY}), so compiling the same coefficients again returns a filter sharing the
+ * existing kernel; code that keeps retuning its filters only ever holds a bounded number of kernel classes beyond
+ * those its live filters are running.  A design too large for the JIT compiler to accept as a single method is not
+ * compiled; the generic runtime is returned instead.
+ *
+ * @author hstclair
+ * @since 10/18/26 1:00 AM
+ */
+public class KernelCompiler {
+
+    /** HotSpot does not compile methods whose bytecode exceeds this size */
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    static final String KERNEL_INTERFACE = "com/hstclair/dsp/FilterKernel";
+    static final String KERNEL_PREFIX = "com/hstclair/dsp/GeneratedKernel";
+
+    static final String PROCESS_DESCRIPTOR = "([DI[DII[D)V";
+
+    /** local variable slots of the generated process method */
+    static final int IN = 1;
+    static final int OFF = 2;
+    static final int OUT = 3;
+    static final int OUT_OFF = 4;
+    static final int LEN = 5;
+    static final int STATE = 6;
+    static final int INDEX = 7;
+    static final int VALUE = 8;
+    static final int OUTPUT = 10;
+    static final int FIRST_STATE = 12;
+
+    /** the number of designs whose kernels are cached */
+    static final int CACHE_CAPACITY = 256;
+
+    /** the kernel of each recently compiled design, or empty if the design is too large to compile */
+    static final Map<DesignKey, Optional<FilterKernel>> cache =
+            new LinkedHashMap<DesignKey, Optional<FilterKernel>>(16, .75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<DesignKey, Optional<FilterKernel>> eldest) {
+                    return size() > CACHE_CAPACITY;
+                }
+            };
+
+    static final AtomicInteger counter = new AtomicInteger();
+
+    KernelCompiler() {
+    }
+
+    /**
+     * @param cascade the design
+     * @return a filter running a kernel compiled for the design (or a {@link BiquadCascadeFilter} if it is too large)
+     */
+    public static DigitalFilter compile(BiquadCascade cascade) {
+        Objects.requireNonNull(cascade);
+
+        int sections = cascade.sections();
+
+        double[][] numerators = new double[sections][];
+        double[][] feedbacks = new double[sections][];
+
+        for (int section = 0; section < sections; section++) {
+            double[] coefficients = cascade.getSection(section);
+
+            numerators[section] = new double[] { coefficients[0], coefficients[1], coefficients[2] };
+            feedbacks[section] = new double[] { -1, coefficients[3], coefficients[4] };
+        }
+
+        Optional<FilterKernel> kernel = kernel(numerators, feedbacks);
+
+        if (!kernel.isPresent())
+            return new BiquadCascadeFilter(cascade);
+
+        return new CompiledFilter(kernel.get(), numerators, feedbacks);
+    }
+
+    /**
+     * @param recursionCoefficients the design
+     * @return a filter running a kernel compiled for the design (or an {@link IirFilter} if it is too large)
+     */
+    public static DigitalFilter compile(RecursionCoefficients recursionCoefficients) {
+        IirFilter generic = new IirFilter(recursionCoefficients);
+
+        double[][] numerators = { generic.a.clone() };
+        double[][] feedbacks = { generic.b.clone() };
+
+        Optional<FilterKernel> kernel = kernel(numerators, feedbacks);
+
+        if (!kernel.isPresent())
+            return generic;
+
+        return new CompiledFilter(kernel.get(), numerators, feedbacks);
+    }
+
+    /**
+     * @return the total number of delay elements of the stages
+     */
+    static int states(double[][] numerators) {
+        int states = 0;
+
+        for (double[] numerator : numerators)
+            states += numerator.length - 1;
+
+        return states;
+    }
+
+    /**
+     * @return the (shared) kernel for the design, or empty if it is too large to compile
+     */
+    static Optional<FilterKernel> kernel(double[][] numerators, double[][] feedbacks) {
+        DesignKey key = new DesignKey(numerators, feedbacks);
+
+        Optional<FilterKernel> kernel;
+
+        synchronized (cache) {
+            kernel = cache.get(key);
+        }
+
+        if (kernel != null)
+            return kernel;
+
+        Optional<FilterKernel> generated = generate(numerators, feedbacks);
+
+        synchronized (cache) {
+            // another thread may have compiled the same design in the meantime; keep the first so it stays shared
+            kernel = cache.get(key);
+
+            if (kernel != null)
+                return kernel;
+
+            cache.put(key, generated);
+        }
+
+        return generated;
+    }
+
+    /**
+     * @return a new kernel for the design, or empty if it is too large to compile
+     */
+    static Optional<FilterKernel> generate(double[][] numerators, double[][] feedbacks) {
+        int maxLocals = FIRST_STATE + 2 * states(numerators);
+
+        ConstantPool pool = new ConstantPool();
+
+        byte[] code = new KernelWriter(pool, numerators, feedbacks).code();
+
+        if (code.length > HUGE_METHOD_LIMIT || maxLocals > 0xFFFF)
+            return Optional.empty();
+
+        String name = KERNEL_PREFIX + counter.incrementAndGet();
+
+        byte[] classFile = classFile(pool, name, code, 8, maxLocals);
+
+        try {
+            KernelLoader loader = new KernelLoader(FilterKernel.class.getClassLoader());
+
+            return Optional.of((FilterKernel) loader.define(name.replace('/', '.'), classFile).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to instantiate generated kernel", ex);
+        }
+    }
+
+    /**
+     * Assemble a class implementing {@link FilterKernel} whose process method has the given bytecode
+     *
+     * @param pool the constant pool, already holding the constants referenced by the process method
+     */
+    static byte[] classFile(ConstantPool pool, String name, byte[] processCode, int maxStack, int maxLocals) {
+        int thisClass = pool.classEntry(name);
+        int superClass = pool.classEntry("java/lang/Object");
+        int kernelInterface = pool.classEntry(KERNEL_INTERFACE);
+        int objectInit = pool.methodEntry("java/lang/Object", "<init>", "()V");
+
+        int initName = pool.utf8("<init>");
+        int initDescriptor = pool.utf8("()V");
+        int processName = pool.utf8("process");
+        int processDescriptor = pool.utf8(PROCESS_DESCRIPTOR);
+        int codeName = pool.utf8("Code");
+
+        byte[] initCode = {
+                0x2a,                                                       // aload_0
+                (byte) 0xb7, (byte) (objectInit >> 8), (byte) objectInit,   // invokespecial Object.<init>
+                (byte) 0xb1                                                 // return
+        };
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+
+            pool.write(out);
+
+            out.writeShort(0x0031);         // public final super
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+
+            out.writeShort(1);
+            out.writeShort(kernelInterface);
+
+            out.writeShort(0);              // fields
+
+            out.writeShort(2);              // methods
+            writeMethod(out, initName, initDescriptor, codeName, initCode, 1, 1);
+            writeMethod(out, processName, processDescriptor, codeName, processCode, maxStack, maxLocals);
+
+            out.writeShort(0);              // attributes
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static void writeMethod(DataOutputStream out, int name, int descriptor, int codeName, byte[] code, int maxStack, int maxLocals) throws IOException {
+        out.writeShort(0x0001);             // public
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+
+        out.writeShort(codeName);
+        out.writeInt(12 + code.length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);                  // exception table
+        out.writeShort(0);                  // attributes
+    }
+
+    /**
+     * Writes the bytecode of the process method.  Each stage is a transposed direct form II section of order n:
+     *
+     *   y = a[0] v + s[0];  s[k - 1] = a[k] v + b[k] y + s[k] for 0 &lt; k &lt; n;  s[n - 1] = a[n] v + b[n] y;  v = y
+     */
+    static class KernelWriter {
+
+        final ConstantPool pool;
+
+        final double[][] numerators;
+        final double[][] feedbacks;
+
+        byte[] code = new byte[256];
+        int length;
+
+        KernelWriter(ConstantPool pool, double[][] numerators, double[][] feedbacks) {
+            this.pool = pool;
+            this.numerators = numerators;
+            this.feedbacks = feedbacks;
+        }
+
+        byte[] code() {
+            int states = states(numerators);
+
+            // load the delay line into locals
+            for (int index = 0; index < states; index++) {
+                emit(0x19, STATE);                  // aload state
+                pushInt(index);
+                emit(0x31);                         // daload
+                localDouble(0x39, stateSlot(index));
+            }
+
+            emit(0x03);                             // iconst_0
+            emit(0x36, INDEX);                      // istore i
+
+            int loop = length;
+
+            emit(0x15, INDEX);                      // iload i
+            emit(0x15, LEN);                        // iload len
+
+            int exitBranch = length;
+
+            emit(0xa2, 0, 0);                       // if_icmpge (patched below)
+
+            emit(0x19, IN);                         // aload in
+            emit(0x15, OFF);                        // iload off
+            emit(0x15, INDEX);                      // iload i
+            emit(0x60);                             // iadd
+            emit(0x31);                             // daload
+            localDouble(0x39, VALUE);               // dstore v
+
+            int offset = 0;
+
+            for (int stage = 0; stage < numerators.length; stage++) {
+                double[] a = numerators[stage];
+                double[] b = feedbacks[stage];
+
+                int order = a.length - 1;
+
+                // y = a[0] v + s[0]
+                boolean pushed = product(a[0], VALUE);
+
+                if (order > 0) {
+                    localDouble(0x18, stateSlot(offset));
+
+                    if (pushed)
+                        emit(0x63);                 // dadd
+                } else if (!pushed) {
+                    constant(0);
+                }
+
+                localDouble(0x39, OUTPUT);
+
+                for (int index = 1; index <= order; index++) {
+                    boolean input = product(a[index], VALUE);
+                    boolean feedback = product(b[index], OUTPUT);
+
+                    if (input && feedback)
+                        emit(0x63);
+
+                    pushed = input || feedback;
+
+                    if (index < order) {
+                        localDouble(0x18, stateSlot(offset + index));
+
+                        if (pushed)
+                            emit(0x63);
+                    } else if (!pushed) {
+                        constant(0);
+                    }
+
+                    localDouble(0x39, stateSlot(offset + index - 1));
+                }
+
+                localDouble(0x18, OUTPUT);
+                localDouble(0x39, VALUE);
+
+                offset += order;
+            }
+
+            emit(0x19, OUT);                        // aload out
+            emit(0x15, OUT_OFF);                    // iload outOff
+            emit(0x15, INDEX);                      // iload i
+            emit(0x60);                             // iadd
+            localDouble(0x18, VALUE);               // dload v
+            emit(0x52);                             // dastore
+
+            emit(0x84, INDEX, 1);                   // iinc i 1
+
+            int jump = loop - length;
+
+            emit(0xa7, jump >> 8, jump);            // goto loop
+
+            int exit = length - exitBranch;
+
+            code[exitBranch + 1] = (byte) (exit >> 8);
+            code[exitBranch + 2] = (byte) exit;
+
+            // store the delay line back
+            for (int index = 0; index < states; index++) {
+                emit(0x19, STATE);
+                pushInt(index);
+                localDouble(0x18, stateSlot(index));
+                emit(0x52);                         // dastore
+            }
+
+            emit(0xb1);                             // return
+
+            return Arrays.copyOf(code, length);
+        }
+
+        int stateSlot(int index) {
+            return FIRST_STATE + 2 * index;
+        }
+
+        /**
+         * Push coefficient * local, omitting the multiplication by one and the whole term when the coefficient is zero
+         *
+         * @return true if a value was pushed
+         */
+        boolean product(double coefficient, int local) {
+            if (coefficient == 0)
+                return false;
+
+            if (coefficient == 1) {
+                localDouble(0x18, local);
+            } else if (coefficient == -1) {
+                localDouble(0x18, local);
+                emit(0x77);                         // dneg
+            } else {
+                constant(coefficient);
+                localDouble(0x18, local);
+                emit(0x6b);                         // dmul
+            }
+
+            return true;
+        }
+
+        void constant(double value) {
+            int index = pool.doubleEntry(value);
+
+            emit(0x14, index >> 8, index);          // ldc2_w
+        }
+
+        void localDouble(int opcode, int slot) {
+            if (slot > 0xff)
+                emit(0xc4, opcode, slot >> 8, slot);    // wide
+            else
+                emit(opcode, slot);
+        }
+
+        void pushInt(int value) {
+            if (value <= 5)
+                emit(0x03 + value);                 // iconst_n
+            else if (value <= Byte.MAX_VALUE)
+                emit(0x10, value);                  // bipush
+            else
+                emit(0x11, value >> 8, value);      // sipush
+        }
+
+        void emit(int... bytes) {
+            if (length + bytes.length > code.length)
+                code = Arrays.copyOf(code, code.length * 2 + bytes.length);
+
+            for (int value : bytes)
+                code[length++] = (byte) value;
+        }
+    }
+
+    /**
+     * A minimal class file constant pool
+     */
+    static class ConstantPool {
+
+        final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+
+        final Map<String, Integer> indices = new HashMap<>();
+
+        int count = 1;
+
+        int add(String key, int slots, byte[] entry) {
+            Integer existing = indices.get(key);
+
+            if (existing != null)
+                return existing;
+
+            int index = count;
+
+            entries.write(entry, 0, entry.length);
+
+            count += slots;
+            indices.put(key, index);
+
+            return index;
+        }
+
+        int utf8(String value) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (DataOutputStream entry = new DataOutputStream(bytes)) {
+                entry.writeByte(1);
+                entry.writeUTF(value);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            return add("U" + value, 1, bytes.toByteArray());
+        }
+
+        int classEntry(String name) {
+            int nameIndex = utf8(name);
+
+            return add("C" + name, 1, new byte[] { 7, (byte) (nameIndex >> 8), (byte) nameIndex });
+        }
+
+        int methodEntry(String owner, String name, String descriptor) {
+            int ownerIndex = classEntry(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+
+            int nameAndType = add("N" + name + descriptor, 1, new byte[] { 12,
+                    (byte) (nameIndex >> 8), (byte) nameIndex, (byte) (descriptorIndex >> 8), (byte) descriptorIndex });
+
+            return add("M" + owner + "." + name + descriptor, 1, new byte[] { 10,
+                    (byte) (ownerIndex >> 8), (byte) ownerIndex, (byte) (nameAndType >> 8), (byte) nameAndType });
+        }
+
+        int doubleEntry(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+
+            byte[] entry = new byte[9];
+
+            entry[0] = 6;
+
+            for (int index = 0; index < 8; index++)
+                entry[1 + index] = (byte) (bits >>> (56 - 8 * index));
+
+            return add("D" + bits, 2, entry);
+        }
+
+        void write(DataOutputStream classFile) throws IOException {
+            classFile.writeShort(count);
+            entries.writeTo(classFile);
+        }
+    }
+
+    /**
+     * Defines a single kernel, so that the class can be unloaded along with it
+     */
+    static class KernelLoader extends ClassLoader {
+
+        KernelLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] classFile) {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+
+    /**
+     * Identifies a design by the values of its coefficients
+     */
+    static final class DesignKey {
+
+        final double[][] numerators;
+        final double[][] feedbacks;
+
+        DesignKey(double[][] numerators, double[][] feedbacks) {
+            this.numerators = numerators;
+            this.feedbacks = feedbacks;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.deepHashCode(numerators) + Arrays.deepHashCode(feedbacks);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this)
+                return true;
+
+            if (!(other instanceof DesignKey))
+                return false;
+
+            DesignKey otherKey = (DesignKey) other;
+
+            return Arrays.deepEquals(numerators, otherKey.numerators) && Arrays.deepEquals(feedbacks, otherKey.feedbacks);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.hstclair.dsp;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Runs one instance of a single filter design for each of a very large number of keys (e.g. one per sensor) without
+ * an object per key.
+ *
+ * The state for every key lives in a single direct (off-heap) buffer, organized as an open addressing hash table
+ * with linear probing.  Each slot has a fixed stride: the key, an occupied flag and then the two transposed direct
+ * form II state variables of each section of the design.  The coefficients are held once, on-heap, and shared by all
+ * keys.  A key is given a slot, with zeroed state, the first time it is seen; slots are never released except by
+ * {@link #clear()}.
+ *
+ * Because a single buffer (and a snapshot of it) is limited to 2GB, the number of keys a bank can hold depends on the
+ * order of its design; {@link #keyLimit(BiquadCascade)} gives the limit, which is about 12 million keys for an eighth
+ * order design.
+ *
+ * Processing does not allocate.  The bank is not thread safe.
+ *
+ * @author hstclair
+ * @since 10/17/26 8:40 PM
+ */
+public class KeyedFilterBank {
+
+    static final int KEY = 0;
+    static final int OCCUPIED = 8;
+    static final int HEADER = 16;
+
+    static final double LOAD_FACTOR = .75;
+
+    final double[] coefficients;
+    final int sections;
+
+    final int stride;
+    final int mask;
+    final int maxKeys;
+
+    final ByteBuffer state;
+
+    int size;
+
+    /**
+     * @param cascade the design run for every key
+     * @param maxKeys the largest number of distinct keys the bank will hold
+     * @throws IllegalArgumentException if <i>maxKeys</i> exceeds {@link #keyLimit(BiquadCascade)}
+     */
+    public KeyedFilterBank(BiquadCascade cascade, int maxKeys) {
+        Objects.requireNonNull(cascade);
+
+        if (maxKeys <= 0)
+            throw new IllegalArgumentException("maxKeys must be positive");
+
+        coefficients = cascade.coefficients.clone();
+        sections = cascade.sections();
+
+        stride = stride(sections);
+
+        long minimumSlots = (long) Math.ceil(maxKeys / LOAD_FACTOR);
+        long slots = Long.highestOneBit(minimumSlots);
+
+        if (slots < minimumSlots)
+            slots <<= 1;
+
+        if (slots * stride > Integer.MAX_VALUE)
+            throw new IllegalArgumentException(String.format("maxKeys %d exceeds the limit of %d keys for a design of %d sections, whose state must fit in a single 2GB buffer",
+                    maxKeys, keyLimit(sections), sections));
+
+        this.maxKeys = maxKeys;
+
+        mask = (int) slots - 1;
+        state = ByteBuffer.allocateDirect((int) slots * stride).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @param cascade a design
+     * @return the largest number of keys a bank running the design can hold
+     */
+    public static int keyLimit(BiquadCascade cascade) {
+        Objects.requireNonNull(cascade);
+
+        return keyLimit(cascade.sections());
+    }
+
+    static int keyLimit(int sections) {
+        long slots = Long.highestOneBit(Integer.MAX_VALUE / stride(sections));
+
+        return (int) Math.floor(slots * LOAD_FACTOR);
+    }
+
+    /**
+     * @return the bytes per slot: the key, the occupied flag and two state variables per section
+     */
+    static int stride(int sections) {
+        return HEADER + sections * 16;
+    }
+
+    static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+
+        return (int) key;
+    }
+
+    /**
+     * @return the byte offset of the slot holding <i>key</i>, or of the empty slot where it belongs
+     */
+    int find(long key) {
+        int slot = hash(key) & mask;
+
+        while (true) {
+            int base = slot * stride;
+
+            if (state.getLong(base + OCCUPIED) == 0 || state.getLong(base + KEY) == key)
+                return base;
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    int slotOf(long key) {
+        int base = find(key);
+
+        if (state.getLong(base + OCCUPIED) == 0) {
+            if (size == maxKeys)
+                throw new IllegalStateException("bank already holds " + maxKeys + " keys");
+
+            state.putLong(base + KEY, key);
+            state.putLong(base + OCCUPIED, 1);
+
+            size++;
+        }
+
+        return base;
+    }
+
+    /**
+     * Filter a single sample for a key
+     *
+     * @param key the key
+     * @param sample the next input sample for that key
+     * @return the filtered sample
+     */
+    public double process(long key, double sample) {
+        int position = slotOf(key) + HEADER;
+
+        double value = sample;
+
+        for (int offset = 0; offset < coefficients.length; offset += BiquadCascade.STRIDE, position += 16) {
+            double s1 = state.getDouble(position);
+            double s2 = state.getDouble(position + 8);
+
+            double output = coefficients[offset] * value + s1;
+
+            state.putDouble(position, coefficients[offset + 1] * value + coefficients[offset + 3] * output + s2);
+            state.putDouble(position + 8, coefficients[offset + 2] * value + coefficients[offset + 4] * output);
+
+            value = output;
+        }
+
+        return value;
+    }
+
+    /**
+     * Filter a block of samples for a single key
+     */
+    public void process(long key, double[] in, int off, double[] out, int outOff, int len) {
+        IirFilter.checkBounds(in, off, out, outOff, len);
+
+        int position = slotOf(key) + HEADER;
+
+        if (sections == 0) {
+            System.arraycopy(in, off, out, outOff, len);
+            return;
+        }
+
+        double[] source = in;
+        int sourceOffset = off;
+
+        for (int offset = 0; offset < coefficients.length; offset += BiquadCascade.STRIDE, position += 16) {
+            double a0 = coefficients[offset];
+            double a1 = coefficients[offset + 1];
+            double a2 = coefficients[offset + 2];
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            double s1 = state.getDouble(position);
+            double s2 = state.getDouble(position + 8);
+
+            for (int index = 0; index < len; index++) {
+                double sample = source[sourceOffset + index];
+
+                double output = a0 * sample + s1;
+
+                s1 = a1 * sample + b1 * output + s2;
+                s2 = a2 * sample + b2 * output;
+
+                out[outOff + index] = output;
+            }
+
+            state.putDouble(position, s1);
+            state.putDouble(position + 8, s2);
+
+            source = out;
+            sourceOffset = outOff;
+        }
+    }
+
+    /**
+     * Set a key's state to that reached after an infinitely long constant input
+     *
+     * @param key the key
+     * @param input the constant input
+     */
+    public void setSteadyState(long key, double input) {
+        int position = slotOf(key) + HEADER;
+
+        double value = input;
+
+        for (int offset = 0; offset < coefficients.length; offset += BiquadCascade.STRIDE, position += 16) {
+            double a0 = coefficients[offset];
+            double a1 = coefficients[offset + 1];
+            double a2 = coefficients[offset + 2];
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            double output = value * (a0 + a1 + a2) / (1 - b1 - b2);
+
+            double s2 = a2 * value + b2 * output;
+
+            state.putDouble(position, a1 * value + b1 * output + s2);
+            state.putDouble(position + 8, s2);
+
+            value = output;
+        }
+    }
+
+    /**
+     * @return true if the key has been seen
+     */
+    public boolean contains(long key) {
+        return state.getLong(find(key) + OCCUPIED) != 0;
+    }
+
+    /**
+     * @return the number of keys in the bank
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove every key
+     */
+    public void clear() {
+        for (int position = 0; position < state.capacity(); position += 8)
+            state.putLong(position, 0);
+
+        size = 0;
+    }
+
+    /**
+     * @return the number of bytes written by {@link #snapshot(ByteBuffer)}
+     */
+    public int snapshotBytes() {
+        return state.capacity();
+    }
+
+    /**
+     * Copy the keys and state of the whole bank, in bulk, to a buffer (which may itself be mapped from a file)
+     *
+     * @param destination receives {@link #snapshotBytes()} bytes at its current position
+     */
+    public void snapshot(ByteBuffer destination) {
+        ByteBuffer source = state.duplicate();
+
+        source.clear();
+
+        destination.put(source);
+    }
+
+    /**
+     * Replace the keys and state of the whole bank with a snapshot taken from a bank with the same design and
+     * maximum number of keys, on a machine with the same native byte order
+     *
+     * @param source supplies {@link #snapshotBytes()} bytes from its current position
+     */
+    public void restore(ByteBuffer source) {
+        if (source.remaining() < state.capacity())
+            throw new IllegalArgumentException("snapshot requires " + state.capacity() + " bytes");
+
+        ByteBuffer slice = source.slice().order(state.order());
+
+        slice.limit(state.capacity());
+
+        int keys = 0;
+
+        for (int base = 0; base < state.capacity(); base += stride)
+            if (slice.getLong(base + OCCUPIED) != 0)
+                keys++;
+
+        if (keys > maxKeys)
+            throw new IllegalArgumentException("snapshot holds more than " + maxKeys + " keys");
+
+        ByteBuffer target = state.duplicate();
+
+        target.clear();
+        target.put(slice);
+
+        source.position(source.position() + state.capacity());
+
+        size = keys;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hstclair.dsp;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size log-linear histogram of latencies in nanoseconds.  Each power of two is split into
+ * {@link #SUB_BUCKETS} linear buckets, so a reported percentile is within 1 / {@link #SUB_BUCKETS} of the true value.
+ *
+ * Recording does not allocate.  A single thread may record while any number of threads read percentiles.
+ *
+ * @author hstclair
+ * @since 10/17/26 6:25 PM
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+    /**
+     * Record a latency.  Single writer only.
+     *
+     * @param nanos the latency
+     */
+    public void record(long nanos) {
+        int bucket = bucketOf(Math.max(nanos, 0));
+
+        // a single writer needs no read-modify-write; the ordered store publishes the new count to readers
+        counts.lazySet(bucket, counts.get(bucket) + 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return the largest value that falls into the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        long base = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return base + (1L << shift) - 1;
+    }
+
+    public long count() {
+        long total = 0;
+
+        for (int bucket = 0; bucket < counts.length(); bucket++)
+            total += counts.get(bucket);
+
+        return total;
+    }
+
+    /**
+     * @param percentile the percentile, in the range [0, 100]
+     * @return the latency at or below which the requested percentage of recorded values fall (0 if none recorded)
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile must be in the range [0, 100]");
+
+        long total = count();
+
+        if (total == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            seen += counts.get(bucket);
+
+            if (seen >= target)
+                return upperBoundOf(bucket);
+        }
+
+        return upperBoundOf(counts.length() - 1);
+    }
+
+    public void reset() {
+        for (int bucket = 0; bucket < counts.length(); bucket++)
+            counts.set(bucket, 0);
+    }
+}
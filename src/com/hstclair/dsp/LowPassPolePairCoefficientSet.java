@@ -14,10 +14,15 @@ public class LowPassPolePairCoefficientSet extends PolePairCoefficientSet {
         super(poles, polePairIndex, cutoffFreq);
     }
 
+    @Override
+    double computeGainAdjustment() {
+        return (a[0] + a[1] + a[2]) / (1 - b[1] - b[0]);
+    }
+
     @Override
     double computeKValue(double cutoffFreq) {
         double radians = 2 * Math.PI * cutoffFreq;
-        return Math.sin(1/2 - radians/2) / Math.sin(1/2 + radians/2);
+        return Math.sin(.5 - radians/2) / Math.sin(.5 + radians/2);
     }
 
     @Override
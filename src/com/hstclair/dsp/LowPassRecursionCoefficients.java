@@ -17,6 +17,7 @@ public class LowPassRecursionCoefficients extends RecursionCoefficients {
         double sigmaa = Arrays.stream(a).sum();
         double sigmab = Arrays.stream(b).sum();
 
-        return sigmaa / (1 - sigmab);
+        // b[0] holds the -1 of the output term, so -sigmab is 1 - (b[1] + ... + b[n])
+        return sigmaa / -sigmab;
     }
 }
@@ -0,0 +1,134 @@
+package com.hstclair.dsp;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A {@link SampleStore} over a file of raw float64 samples, accessed through memory mapped windows so that the file
+ * never sits on the heap.  One window is mapped at a time and is replaced whenever an access falls outside of it.
+ *
+ * @author hstclair
+ * @since 10/17/26 5:10 PM
+ */
+public class MappedSampleStore implements SampleStore, Closeable {
+
+    static final long WINDOW_SAMPLES = 1L << 23;
+
+    final FileChannel channel;
+    final ByteOrder byteOrder;
+    final long length;
+
+    long windowSamples = WINDOW_SAMPLES;
+
+    MappedByteBuffer window;
+    DoubleBuffer samples;
+    long windowStart = -1;
+    long windowEnd = -1;
+
+    /**
+     * Open an existing file of float64 samples for reading and writing
+     *
+     * @param path the file
+     * @param byteOrder the byte order of the samples
+     */
+    public MappedSampleStore(Path path, ByteOrder byteOrder) throws IOException {
+        Objects.requireNonNull(path);
+
+        this.byteOrder = Objects.requireNonNull(byteOrder);
+
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (channel.size() % SampleFormat.FLOAT64.bytes() != 0) {
+            channel.close();
+            throw new IllegalArgumentException("File size is not a whole number of float64 samples");
+        }
+
+        length = channel.size() / SampleFormat.FLOAT64.bytes();
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public void read(long position, double[] buffer, int off, int len) {
+        checkRange(position, len);
+
+        while (len > 0) {
+            int count = select(position, len);
+
+            samples.position((int) (position - windowStart));
+            samples.get(buffer, off, count);
+
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    @Override
+    public void write(long position, double[] buffer, int off, int len) {
+        checkRange(position, len);
+
+        while (len > 0) {
+            int count = select(position, len);
+
+            samples.position((int) (position - windowStart));
+            samples.put(buffer, off, count);
+
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    void checkRange(long position, int len) {
+        if (position < 0 || len < 0 || position + len > length)
+            throw new IndexOutOfBoundsException("Invalid range: position=" + position + ", len=" + len);
+    }
+
+    /**
+     * Make sure the window covering <i>position</i> is mapped
+     *
+     * @return the number of the requested samples available in the window
+     */
+    int select(long position, int len) {
+        if (position < windowStart || position >= windowEnd) {
+            long start = (position / windowSamples) * windowSamples;
+            long end = Math.min(start + windowSamples, length);
+
+            int bytes = SampleFormat.FLOAT64.bytes();
+
+            try {
+                window = channel.map(FileChannel.MapMode.READ_WRITE, start * bytes, (end - start) * bytes);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            window.order(byteOrder);
+
+            windowStart = start;
+            windowEnd = end;
+
+            samples = window.asDoubleBuffer();
+        }
+
+        return (int) Math.min(len, windowEnd - position);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        samples = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,172 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Runs a single {@link RecursionCoefficients} design over many channels at once.
+ *
+ * Per-channel state is stored as a structure of arrays: delay element <i>k</i> of channel <i>c</i> lives at
+ * state[k * channels + c], so the state of every channel for a given delay element is contiguous.  The vectorized
+ * kernel walks channels in its innermost loop, which gives the JIT simple unit-stride loops over primitive arrays that
+ * it can compile to SIMD instructions.  The scalar kernel walks each channel's samples in turn.  Both kernels evaluate
+ * exactly the same expressions in the same order for every channel, so their output is bit-identical.
+ *
+ * @author hstclair
+ * @since 10/17/26 11:30 AM
+ */
+public class MultiChannelIirFilter {
+
+    final double[] a;
+    final double[] b;
+
+    final int channels;
+
+    final double[] state;
+
+    /** one frame of output, so that interleaved blocks may be filtered in place */
+    final double[] frame;
+
+    boolean vectorized = true;
+
+    public MultiChannelIirFilter(RecursionCoefficients recursionCoefficients, int channels) {
+        Objects.requireNonNull(recursionCoefficients);
+
+        if (channels <= 0)
+            throw new IllegalArgumentException("channels must be positive");
+
+        IirFilter prototype = new IirFilter(recursionCoefficients);
+
+        this.a = prototype.a;
+        this.b = prototype.b;
+        this.channels = channels;
+
+        state = new double[Math.max(prototype.order(), 1) * channels];
+        frame = new double[channels];
+    }
+
+    /**
+     * Select the kernel used for interleaved blocks
+     *
+     * @param vectorized true to filter across channels in the inner loop, false to filter one channel at a time
+     */
+    public void setVectorized(boolean vectorized) {
+        this.vectorized = vectorized;
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    public int channels() {
+        return channels;
+    }
+
+    /**
+     * Filter a block of interleaved frames.  Sample <i>c</i> of frame <i>f</i> is at in[off + f * channels + c].
+     * <i>in</i> and <i>out</i> may refer to the same array (and offset) to filter in place.
+     *
+     * @param in the input samples
+     * @param off the offset of the first input sample
+     * @param out the array receiving the filtered samples
+     * @param outOff the offset of the first output sample
+     * @param frames the number of frames to filter
+     */
+    public void processInterleaved(double[] in, int off, double[] out, int outOff, int frames) {
+        IirFilter.checkBounds(in, off, out, outOff, frames * channels);
+
+        if (vectorized)
+            processInterleavedAcrossChannels(in, off, out, outOff, frames);
+        else
+            processInterleavedByChannel(in, off, out, outOff, frames);
+    }
+
+    /**
+     * Filter a block of planar samples, one array per channel.
+     *
+     * @param in the input samples for each channel
+     * @param off the offset of the first input sample within each channel
+     * @param out the arrays receiving the filtered samples for each channel
+     * @param outOff the offset of the first output sample within each channel
+     * @param len the number of samples to filter in each channel
+     */
+    public void processPlanar(double[][] in, int off, double[][] out, int outOff, int len) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(out);
+
+        if (in.length != channels || out.length != channels)
+            throw new IllegalArgumentException("Expected " + channels + " channels");
+
+        for (int channel = 0; channel < channels; channel++) {
+            IirFilter.checkBounds(in[channel], off, out[channel], outOff, len);
+
+            processChannel(channel, in[channel], off, 1, out[channel], outOff, 1, len);
+        }
+    }
+
+    void processInterleavedAcrossChannels(double[] in, int off, double[] out, int outOff, int frames) {
+        int order = a.length - 1;
+
+        for (int frameIndex = 0; frameIndex < frames; frameIndex++) {
+            int base = off + frameIndex * channels;
+
+            double a0 = a[0];
+
+            for (int channel = 0; channel < channels; channel++)
+                frame[channel] = a0 * in[base + channel] + state[channel];
+
+            for (int index = 1; index < order; index++) {
+                double ak = a[index];
+                double bk = b[index];
+
+                int row = (index - 1) * channels;
+                int next = index * channels;
+
+                for (int channel = 0; channel < channels; channel++)
+                    state[row + channel] = ak * in[base + channel] + bk * frame[channel] + state[next + channel];
+            }
+
+            if (order > 0) {
+                double ak = a[order];
+                double bk = b[order];
+
+                int row = (order - 1) * channels;
+
+                for (int channel = 0; channel < channels; channel++)
+                    state[row + channel] = ak * in[base + channel] + bk * frame[channel];
+            }
+
+            System.arraycopy(frame, 0, out, outOff + frameIndex * channels, channels);
+        }
+    }
+
+    void processInterleavedByChannel(double[] in, int off, double[] out, int outOff, int frames) {
+        for (int channel = 0; channel < channels; channel++)
+            processChannel(channel, in, off + channel, channels, out, outOff + channel, channels, frames);
+    }
+
+    void processChannel(int channel, double[] in, int off, int inStride, double[] out, int outOff, int outStride, int len) {
+        int order = a.length - 1;
+
+        for (int sampleIndex = 0; sampleIndex < len; sampleIndex++) {
+            double sample = in[off + sampleIndex * inStride];
+
+            double output = a[0] * sample + state[channel];
+
+            for (int index = 1; index < order; index++)
+                state[(index - 1) * channels + channel] = a[index] * sample + b[index] * output + state[index * channels + channel];
+
+            if (order > 0)
+                state[(order - 1) * channels + channel] = a[order] * sample + b[order] * output;
+
+            out[outOff + sampleIndex * outStride] = output;
+        }
+    }
+
+    /**
+     * Clear the delay lines of every channel
+     */
+    public void reset() {
+        for (int index = 0; index < state.length; index++)
+            state[index] = 0;
+    }
+}
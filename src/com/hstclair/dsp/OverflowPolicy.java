@@ -0,0 +1,15 @@
+package com.hstclair.dsp;
+
+/**
+ * What a producer does when a {@link RealtimeFilterPipeline} has no room for its samples
+ *
+ * @author hstclair
+ * @since 10/17/26 6:20 PM
+ */
+public enum OverflowPolicy {
+    /** wait for the consumer to make room (back-pressure) */
+    BLOCK,
+
+    /** discard whatever samples do not fit, and count them */
+    DROP
+}
@@ -0,0 +1,85 @@
+package com.hstclair.dsp;
+
+import java.util.Arrays;
+
+/**
+ * The direct form coefficients of many designs packed into a structure of arrays.  The coefficients of design
+ * <i>i</i> occupy a[offsets[i]] .. a[offsets[i + 1] - 1] (and likewise for b), so a whole batch can be handed to a
+ * filter bank as three primitive arrays.
+ *
+ * @author hstclair
+ * @since 10/17/26 1:20 PM
+ */
+public class PackedRecursionCoefficients {
+
+    final double[] a;
+    final double[] b;
+
+    final int[] offsets;
+
+    PackedRecursionCoefficients(int[] offsets) {
+        this.offsets = offsets;
+
+        a = new double[offsets[offsets.length - 1]];
+        b = new double[offsets[offsets.length - 1]];
+    }
+
+    void set(int index, RecursionCoefficients coefficients) {
+        int length = offsets[index + 1] - offsets[index];
+
+        System.arraycopy(coefficients.a, 0, a, offsets[index], length);
+        System.arraycopy(coefficients.b, 0, b, offsets[index], length);
+    }
+
+    /**
+     * @return the number of designs
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @param index the design index
+     * @return the order of the design
+     */
+    public int order(int index) {
+        return offsets[index + 1] - offsets[index] - 1;
+    }
+
+    /**
+     * @return the packed a coefficients of every design (shared, not copied)
+     */
+    public double[] getA() {
+        return a;
+    }
+
+    /**
+     * @return the packed b coefficients of every design (shared, not copied)
+     */
+    public double[] getB() {
+        return b;
+    }
+
+    /**
+     * @return the offset of each design's coefficients, followed by the total length (shared, not copied)
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * @param index the design index
+     * @return a copy of the a coefficients of the design
+     */
+    public double[] getA(int index) {
+        return Arrays.copyOfRange(a, offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * @param index the design index
+     * @return a copy of the b coefficients of the design
+     */
+    public double[] getB(int index) {
+        return Arrays.copyOfRange(b, offsets[index], offsets[index + 1]);
+    }
+}
@@ -0,0 +1,289 @@
+package com.hstclair.dsp;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Filters many independent signals, each with its own design, across a {@link ForkJoinPool}.
+ *
+ * Each job is broken into units of work whose cost is its length times the number of sections in its design.  The
+ * units are ordered longest first and divided recursively at the midpoint of their total cost, so that idle workers
+ * steal the largest remaining pieces and a few long jobs cannot leave the rest of the pool waiting at the end.
+ *
+ * A job is only split when it would otherwise cost more than an even share of the batch, and only at safe points.
+ * An IIR filter's state depends on its whole history, so a segment after the first starts its filter early, from the
+ * steady state of the sample at which it starts, and discards a warm up long enough for the impulse response to decay
+ * below <i>epsilon</i> of its energy.  The difference from filtering the signal whole is therefore bounded by the
+ * neglected tail of the impulse response.  An executor created with an <i>epsilon</i> of zero never splits, and its
+ * output is identical to filtering each signal with a {@link BiquadCascadeFilter}.
+ *
+ * @author hstclair
+ * @since 10/18/26 2:20 AM
+ */
+public class ParallelFilterExecutor implements AutoCloseable {
+
+    /** the shortest segment a job is split into */
+    static final int MIN_SEGMENT = 1 << 15;
+
+    /** a segment is at least this many times as long as the warm up that precedes it */
+    static final int WARMUP_RATIO = 8;
+
+    /** the cost below which a task stops splitting and runs its units sequentially */
+    static final long THRESHOLD = 1 << 16;
+
+    static final int SCRATCH = 1024;
+
+    final ForkJoinPool pool;
+
+    final boolean ownsPool;
+
+    final double epsilon;
+
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    long jobs;
+    long processed;
+    long elapsedNanos;
+
+    /**
+     * Create an executor which runs on the common pool and filters every signal whole
+     */
+    public ParallelFilterExecutor() {
+        pool = ForkJoinPool.commonPool();
+        ownsPool = false;
+        epsilon = 0;
+    }
+
+    /**
+     * Create an executor which runs on its own pool
+     *
+     * @param parallelism the number of worker threads
+     * @param epsilon the energy of the impulse response, relative to its total, that may be neglected where a signal
+     *                is split; zero to filter every signal whole
+     */
+    public ParallelFilterExecutor(int parallelism, double epsilon) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("parallelism must be positive");
+
+        if (!(epsilon >= 0 && epsilon < 1))
+            throw new IllegalArgumentException("epsilon must be in the range [0, 1)");
+
+        pool = new ForkJoinPool(parallelism);
+        ownsPool = true;
+        this.epsilon = epsilon;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Filter every job, returning once all of them are complete
+     *
+     * @param jobs the jobs
+     */
+    public synchronized void execute(List<FilterJob> jobs) {
+        Objects.requireNonNull(jobs);
+
+        FilterJob[] jobArray = jobs.toArray(new FilterJob[0]);
+
+        long totalCost = 0;
+
+        for (FilterJob job : jobArray)
+            totalCost += cost(Objects.requireNonNull(job).signal.length, job.design);
+
+        long share = Math.max(1, totalCost / pool.getParallelism());
+
+        List<Segment> segmentList = new ArrayList<>();
+
+        for (FilterJob job : jobArray)
+            plan(job, share, segmentList);
+
+        segmentList.sort(Comparator.comparingLong((Segment segment) -> segment.cost).reversed());
+
+        Segment[] segments = segmentList.toArray(new Segment[0]);
+
+        long[] costs = new long[segments.length + 1];
+
+        for (int index = 0; index < segments.length; index++)
+            costs[index + 1] = costs[index] + segments[index].cost;
+
+        long start = System.nanoTime();
+
+        for (Segment segment : segments)
+            segment.batchStart = start;
+
+        if (segments.length > 0)
+            pool.invoke(new SegmentTask(segments, costs, 0, segments.length));
+
+        elapsedNanos += System.nanoTime() - start;
+
+        for (FilterJob job : jobArray) {
+            latency.record(job.latencyNanos);
+            processed += job.signal.length;
+        }
+
+        this.jobs += jobArray.length;
+    }
+
+    static long cost(int length, BiquadCascade design) {
+        return (long) Math.max(1, length) * Math.max(1, design.sections());
+    }
+
+    /**
+     * Break a job into segments, splitting only if it costs more than its share of the batch
+     */
+    void plan(FilterJob job, long share, List<Segment> segments) {
+        int length = job.signal.length;
+
+        long cost = cost(length, job.design);
+
+        int warmup = 0;
+        int count = 1;
+
+        if (epsilon > 0 && job.output != job.signal && cost > share) {
+            int estimate = ResponseGenerator.estimateLength(job.design, epsilon);
+
+            if (estimate < Integer.MAX_VALUE / WARMUP_RATIO) {
+                int shortest = Math.max(MIN_SEGMENT, WARMUP_RATIO * estimate);
+
+                warmup = estimate;
+                count = (int) Math.min(length / shortest, (cost + share - 1) / share);
+                count = Math.max(1, count);
+            }
+        }
+
+        job.segments = count;
+        job.latencyNanos = -1;
+
+        AtomicInteger pending = new AtomicInteger(count);
+
+        for (int index = 0; index < count; index++) {
+            int start = (int) ((long) length * index / count);
+            int end = (int) ((long) length * (index + 1) / count);
+
+            int segmentWarmup = Math.min(warmup, start);
+
+            segments.add(new Segment(job, start, end, segmentWarmup, pending));
+        }
+    }
+
+    /**
+     * @param percentile the percentile, in the range [0, 100]
+     * @return the job latency in nanoseconds at that percentile, over every batch executed so far
+     */
+    public synchronized long getLatencyPercentile(double percentile) {
+        return latency.percentile(percentile);
+    }
+
+    public synchronized long getProcessedJobs() {
+        return jobs;
+    }
+
+    public synchronized long getProcessedSamples() {
+        return processed;
+    }
+
+    /**
+     * @return the total time in nanoseconds spent executing batches
+     */
+    public synchronized long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the samples filtered per second while executing batches
+     */
+    public synchronized double getThroughput() {
+        return elapsedNanos == 0 ? 0 : processed * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool)
+            pool.shutdown();
+    }
+
+    /**
+     * A contiguous range of one job's signal, preceded by the warm up needed to bring its filter's state up to date
+     */
+    static class Segment {
+        final FilterJob job;
+        final int start;
+        final int end;
+        final int warmup;
+        final AtomicInteger pending;
+        final long cost;
+
+        long batchStart;
+
+        Segment(FilterJob job, int start, int end, int warmup, AtomicInteger pending) {
+            this.job = job;
+            this.start = start;
+            this.end = end;
+            this.warmup = warmup;
+            this.pending = pending;
+
+            cost = cost(end - start + warmup, job.design);
+        }
+
+        void run(double[] scratch) {
+            BiquadCascadeFilter filter = new BiquadCascadeFilter(job.design);
+
+            if (warmup > 0) {
+                filter.setSteadyState(job.signal[start - warmup]);
+
+                for (int position = start - warmup; position < start; position += scratch.length)
+                    filter.process(job.signal, position, scratch, 0, Math.min(scratch.length, start - position));
+            }
+
+            filter.process(job.signal, start, job.output, start, end - start);
+
+            if (pending.decrementAndGet() == 0)
+                job.latencyNanos = System.nanoTime() - batchStart;
+        }
+    }
+
+    static class SegmentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final Segment[] segments;
+        final long[] costs;
+        final int start;
+        final int end;
+
+        SegmentTask(Segment[] segments, long[] costs, int start, int end) {
+            this.segments = segments;
+            this.costs = costs;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start == 1 || costs[end] - costs[start] <= THRESHOLD) {
+                double[] scratch = new double[SCRATCH];
+
+                for (int index = start; index < end; index++)
+                    segments[index].run(scratch);
+
+                return;
+            }
+
+            // divide at the midpoint of the cost rather than of the count
+            long half = (costs[start] + costs[end]) >>> 1;
+
+            int middle = start + 1;
+
+            while (middle < end - 1 && costs[middle] < half)
+                middle++;
+
+            invokeAll(new SegmentTask(segments, costs, start, middle), new SegmentTask(segments, costs, middle, end));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * The parallel form of a {@link BiquadCascade}: a direct term plus one single pole branch per pole,
+ *
+ *   H(z) = c + sum over i of r[i] / (1 - p[i] z^-1)
+ *
+ * A complex conjugate pair of poles contributes equal and opposite imaginary parts, so only the pole with positive
+ * imaginary part is kept and its branch output is doubled ({@link #weights} holds 2 for such branches and 1 for
+ * branches with real poles).  The real part of each complex branch output, scaled by its weight, sums with the direct
+ * term to give the filter's output.
+ *
+ * Unlike a cascade, whose sections must each see every sample of the previous section's output, the branches are
+ * independent and each sees only the input, which is what allows the multirate stages to skip work.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:00 PM
+ */
+class PartialFractionExpansion {
+
+    final double direct;
+
+    final double[] poleRe;
+    final double[] poleIm;
+
+    final double[] residueRe;
+    final double[] residueIm;
+
+    final double[] weights;
+
+    PartialFractionExpansion(BiquadCascade cascade) {
+        Objects.requireNonNull(cascade);
+
+        double[] coefficients = cascade.coefficients;
+        int sections = cascade.sections();
+
+        // every pole, including both members of each conjugate pair
+        double[] allRe = new double[sections * 2];
+        double[] allIm = new double[sections * 2];
+
+        double[] branchRe = new double[sections * 2];
+        double[] branchIm = new double[sections * 2];
+        double[] branchWeights = new double[sections * 2];
+
+        int branches = 0;
+
+        double c = 1;
+
+        for (int section = 0; section < sections; section++) {
+            int offset = section * BiquadCascade.STRIDE;
+
+            double b1 = coefficients[offset + 3];
+            double b2 = coefficients[offset + 4];
+
+            if (b2 == 0)
+                throw new IllegalArgumentException("sections must be of second order");
+
+            // the poles are the roots of z^2 - b1 z - b2
+            double discriminant = b1 * b1 + 4 * b2;
+
+            if (discriminant < 0) {
+                double im = Math.sqrt(-discriminant) / 2;
+
+                allRe[section * 2] = allRe[section * 2 + 1] = b1 / 2;
+                allIm[section * 2] = im;
+                allIm[section * 2 + 1] = -im;
+
+                branchRe[branches] = b1 / 2;
+                branchIm[branches] = im;
+                branchWeights[branches++] = 2;
+            } else {
+                double root = Math.sqrt(discriminant);
+
+                allRe[section * 2] = (b1 + root) / 2;
+                allRe[section * 2 + 1] = (b1 - root) / 2;
+
+                for (int pole = 0; pole < 2; pole++) {
+                    branchRe[branches] = allRe[section * 2 + pole];
+                    branchWeights[branches++] = 1;
+                }
+            }
+
+            // as z^-1 grows without bound each section tends to a2 / -b2
+            c *= coefficients[offset + 2] / -b2;
+        }
+
+        direct = c;
+
+        poleRe = new double[branches];
+        poleIm = new double[branches];
+        residueRe = new double[branches];
+        residueIm = new double[branches];
+        weights = new double[branches];
+
+        for (int branch = 0; branch < branches; branch++) {
+            double pRe = branchRe[branch];
+            double pIm = branchIm[branch];
+
+            poleRe[branch] = pRe;
+            poleIm[branch] = pIm;
+            weights[branch] = branchWeights[branch];
+
+            // 1 / p
+            double norm = pRe * pRe + pIm * pIm;
+            double wRe = pRe / norm;
+            double wIm = -pIm / norm;
+
+            // the numerator evaluated at z^-1 = 1 / p
+            double numeratorRe = 1;
+            double numeratorIm = 0;
+
+            for (int section = 0; section < sections; section++) {
+                int offset = section * BiquadCascade.STRIDE;
+
+                double a0 = coefficients[offset];
+                double a1 = coefficients[offset + 1];
+                double a2 = coefficients[offset + 2];
+
+                // a0 + w (a1 + w a2)
+                double innerRe = a1 + a2 * wRe;
+                double innerIm = a2 * wIm;
+
+                double termRe = a0 + wRe * innerRe - wIm * innerIm;
+                double termIm = wRe * innerIm + wIm * innerRe;
+
+                double re = numeratorRe * termRe - numeratorIm * termIm;
+                numeratorIm = numeratorRe * termIm + numeratorIm * termRe;
+                numeratorRe = re;
+            }
+
+            // the product of (1 - p[j] / p) over every other pole
+            double denominatorRe = 1;
+            double denominatorIm = 0;
+
+            boolean skipped = false;
+
+            for (int pole = 0; pole < allRe.length; pole++) {
+                if (!skipped && allRe[pole] == pRe && allIm[pole] == pIm) {
+                    skipped = true;
+                    continue;
+                }
+
+                // 1 - p[j] w
+                double termRe = 1 - (allRe[pole] * wRe - allIm[pole] * wIm);
+                double termIm = -(allRe[pole] * wIm + allIm[pole] * wRe);
+
+                double re = denominatorRe * termRe - denominatorIm * termIm;
+                denominatorIm = denominatorRe * termIm + denominatorIm * termRe;
+                denominatorRe = re;
+            }
+
+            double denominatorNorm = denominatorRe * denominatorRe + denominatorIm * denominatorIm;
+
+            residueRe[branch] = (numeratorRe * denominatorRe + numeratorIm * denominatorIm) / denominatorNorm;
+            residueIm[branch] = (numeratorIm * denominatorRe - numeratorRe * denominatorIm) / denominatorNorm;
+        }
+    }
+
+    int branches() {
+        return poleRe.length;
+    }
+
+    /**
+     * Compute p^power for every branch
+     *
+     * @param power the exponent
+     * @param re receives the real parts
+     * @param im receives the imaginary parts
+     * @param offset the index at which the power for the first branch is stored
+     * @param stride the distance between the powers for successive branches
+     */
+    void powers(int power, double[] re, double[] im, int offset, int stride) {
+        for (int branch = 0; branch < branches(); branch++) {
+            double resultRe = 1;
+            double resultIm = 0;
+
+            for (int count = 0; count < power; count++) {
+                double next = resultRe * poleRe[branch] - resultIm * poleIm[branch];
+                resultIm = resultRe * poleIm[branch] + resultIm * poleRe[branch];
+                resultRe = next;
+            }
+
+            re[offset + branch * stride] = resultRe;
+            im[offset + branch * stride] = resultIm;
+        }
+    }
+}
@@ -79,7 +79,7 @@ public abstract class PolePairCoefficientSet {
 
     double[] mapYtoB(double[] y, double cutoffFreq) {
         double k = computeKValue(cutoffFreq);
-        double d = y[2] + y[1] * k - y[1] * Math.pow(k, 2);
+        double d = y[2] + y[1] * k - y[0] * Math.pow(k, 2);
 
         double[] b = new double[3];
 
@@ -103,6 +103,11 @@ public abstract class PolePairCoefficientSet {
         }
     }
 
+    /**
+     * @return the gain of this pole pair taken on its own (at DC for low pass, at Nyquist for high pass)
+     */
+    abstract double computeGainAdjustment();
+
     abstract double computeKValue(double w);
 
     abstract double[] transformCoefficients(double[] coefficients);
@@ -0,0 +1,199 @@
+package com.hstclair.dsp;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Filter coefficients quantized to fixed point integers with a configurable number of fractional bits (e.g. 14 bits
+ * gives the Q2.14 coefficient format commonly paired with Q15 samples, 29 bits gives Q2.29 for Q31 samples).
+ *
+ * The coefficients are organized as a series of sections, each of which is run in direct form I.  A
+ * {@link BiquadCascade} exports one second order section per pole pair; a set of {@link RecursionCoefficients}
+ * exports a single section of the full order.  For each section the a coefficients are stored as a[0] .. a[N] and the
+ * b coefficients as b[1] .. b[N] (b[0] is implicitly the -1 of the output term).
+ *
+ * @author hstclair
+ * @since 10/17/26 1:50 PM
+ */
+public class QuantizedCoefficients {
+
+    final int fractionalBits;
+
+    /** the order of each section */
+    final int[] orders;
+
+    /** the offset of each section's a coefficients, then the total; b coefficients of section s start at aOffsets[s] - s */
+    final int[] aOffsets;
+
+    final int[] a;
+    final int[] b;
+
+    /** the unquantized coefficients, kept to report the quantization error */
+    final double[] exactA;
+    final double[] exactB;
+
+    QuantizedCoefficients(int fractionalBits, int[] orders, double[] exactA, double[] exactB) {
+        if (fractionalBits < 1 || fractionalBits > 30)
+            throw new IllegalArgumentException("fractionalBits must be in the range [1, 30]");
+
+        this.fractionalBits = fractionalBits;
+        this.orders = orders;
+        this.exactA = exactA;
+        this.exactB = exactB;
+
+        aOffsets = new int[orders.length + 1];
+
+        for (int section = 0; section < orders.length; section++)
+            aOffsets[section + 1] = aOffsets[section] + orders[section] + 1;
+
+        a = quantize(exactA, fractionalBits);
+        b = quantize(exactB, fractionalBits);
+    }
+
+    /**
+     * Quantize the sections of a cascade
+     *
+     * @param cascade the design
+     * @param fractionalBits the number of fractional bits in each coefficient
+     * @return the quantized coefficients
+     */
+    public static QuantizedCoefficients of(BiquadCascade cascade, int fractionalBits) {
+        Objects.requireNonNull(cascade);
+
+        int sections = cascade.sections();
+
+        int[] orders = new int[sections];
+        double[] exactA = new double[sections * 3];
+        double[] exactB = new double[sections * 2];
+
+        for (int section = 0; section < sections; section++) {
+            int offset = section * BiquadCascade.STRIDE;
+
+            orders[section] = 2;
+
+            System.arraycopy(cascade.coefficients, offset, exactA, section * 3, 3);
+            System.arraycopy(cascade.coefficients, offset + 3, exactB, section * 2, 2);
+        }
+
+        return new QuantizedCoefficients(fractionalBits, orders, exactA, exactB);
+    }
+
+    /**
+     * Quantize a direct form design as a single section
+     *
+     * @param recursionCoefficients the design
+     * @param fractionalBits the number of fractional bits in each coefficient
+     * @return the quantized coefficients
+     */
+    public static QuantizedCoefficients of(RecursionCoefficients recursionCoefficients, int fractionalBits) {
+        IirFilter normalized = new IirFilter(recursionCoefficients);
+
+        int order = normalized.order();
+
+        double[] exactB = new double[order];
+
+        System.arraycopy(normalized.b, 1, exactB, 0, order);
+
+        return new QuantizedCoefficients(fractionalBits, new int[] { order }, normalized.a.clone(), exactB);
+    }
+
+    static int[] quantize(double[] coefficients, int fractionalBits) {
+        double scale = Math.scalb(1d, fractionalBits);
+
+        int[] result = new int[coefficients.length];
+
+        for (int index = 0; index < coefficients.length; index++) {
+            long value = Math.round(coefficients[index] * scale);
+
+            if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE)
+                throw new IllegalArgumentException(String.format("Coefficient %s does not fit in a 32 bit integer with %d fractional bits", coefficients[index], fractionalBits));
+
+            result[index] = (int) value;
+        }
+
+        return result;
+    }
+
+    public int getFractionalBits() {
+        return fractionalBits;
+    }
+
+    public int sections() {
+        return orders.length;
+    }
+
+    /**
+     * @return the largest absolute difference between a quantized coefficient and its exact value
+     */
+    public double maxCoefficientError() {
+        double scale = Math.scalb(1d, -fractionalBits);
+
+        double error = 0;
+
+        for (int index = 0; index < a.length; index++)
+            error = Math.max(error, Math.abs(a[index] * scale - exactA[index]));
+
+        for (int index = 0; index < b.length; index++)
+            error = Math.max(error, Math.abs(b[index] * scale - exactB[index]));
+
+        return error;
+    }
+
+    /**
+     * Compare the step response of the quantized design (run with Q31 samples) against that of the exact design.
+     *
+     * @param length the number of samples to compare
+     * @return the largest absolute difference, as a fraction of full scale
+     */
+    public double maxResponseError(int length) {
+        double step = .5;
+
+        int[] input = new int[length];
+        int[] output = new int[length];
+
+        Arrays.fill(input, (int) Math.round(step * Integer.MAX_VALUE));
+
+        new FixedPointFilter(this, true).process(input, 0, output, 0, length);
+
+        // run the exact coefficients through the same direct form I structure in double precision
+        double[] xHistory = new double[a.length];
+        double[] yHistory = new double[b.length];
+
+        double error = 0;
+
+        for (int count = 0; count < length; count++) {
+            double value = step;
+
+            for (int section = 0; section < orders.length; section++) {
+                int order = orders[section];
+                int aOffset = aOffsets[section];
+                int bOffset = aOffset - section;
+
+                for (int index = order; index > 0; index--)
+                    xHistory[aOffset + index] = xHistory[aOffset + index - 1];
+
+                xHistory[aOffset] = value;
+
+                double result = 0;
+
+                for (int index = 0; index <= order; index++)
+                    result += exactA[aOffset + index] * xHistory[aOffset + index];
+
+                for (int index = 0; index < order; index++)
+                    result += exactB[bOffset + index] * yHistory[bOffset + index];
+
+                for (int index = order - 1; index > 0; index--)
+                    yHistory[bOffset + index] = yHistory[bOffset + index - 1];
+
+                if (order > 0)
+                    yHistory[bOffset] = result;
+
+                value = result;
+            }
+
+            error = Math.max(error, Math.abs(output[count] / (double) Integer.MAX_VALUE - value));
+        }
+
+        return error;
+    }
+}
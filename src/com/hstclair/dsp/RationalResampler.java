@@ -0,0 +1,194 @@
+package com.hstclair.dsp;
+
+/**
+ * Changes the sampling rate of a signal by a rational factor <i>up</i> / <i>down</i>: conceptually the input is
+ * upsampled by inserting <i>up</i> - 1 zeros after each sample, low pass filtered to remove images and prevent
+ * aliasing, and then every <i>down</i>th sample is kept.
+ *
+ * The anti-alias filter runs in its {@link PartialFractionExpansion parallel form}, which allows both the zeros and
+ * the discarded samples to be skipped.  Between two input samples each single pole branch simply decays, so its state
+ * at any intermediate time is its state at the last input multiplied by a precomputed power of its pole.  Each input
+ * sample therefore costs one complex multiply-add per branch, and each output sample one real dot product across
+ * the branches, regardless of the upsampling factor.
+ *
+ * @author hstclair
+ * @since 10/17/26 10:20 PM
+ */
+public class RationalResampler {
+
+    /** the anti-alias cutoff, as a fraction of the lower of the two Nyquist frequencies */
+    static final double PASSBAND_FRACTION = .8;
+
+    static final int DEFAULT_POLES = 8;
+
+    final int up;
+    final int down;
+
+    final double direct;
+    final double[] weights;
+
+    /** p^up for each branch */
+    final double[] stepRe;
+    final double[] stepIm;
+
+    /** the residue of each branch, scaled by <i>up</i> to restore unity gain after zero insertion */
+    final double[] inputRe;
+    final double[] inputIm;
+
+    /** p^j for 0 &lt;= j &lt; up, stored at [branch * up + j] */
+    final double[] phaseRe;
+    final double[] phaseIm;
+
+    final double[] stateRe;
+    final double[] stateIm;
+
+    /** the time of the next output, relative to the most recent input, in samples at the upsampled rate */
+    int phase;
+
+    /**
+     * Create a resampler with a Butterworth anti-alias filter whose cutoff is chosen from the rate ratio
+     *
+     * @param up the upsampling factor
+     * @param down the downsampling factor
+     */
+    public RationalResampler(int up, int down) {
+        this(up, down, new ButterworthCoefficientCalculator().computeLowpassCascade(DEFAULT_POLES, antiAliasCutoff(up, down)));
+    }
+
+    /**
+     * @param up the upsampling factor
+     * @param down the downsampling factor
+     * @param antiAlias the anti-alias filter, designed for the upsampled rate
+     */
+    public RationalResampler(int up, int down, BiquadCascade antiAlias) {
+        if (up <= 0 || down <= 0)
+            throw new IllegalArgumentException("up and down must be positive");
+
+        int divisor = gcd(up, down);
+
+        this.up = up / divisor;
+        this.down = down / divisor;
+
+        PartialFractionExpansion expansion = new PartialFractionExpansion(antiAlias);
+
+        int branches = expansion.branches();
+
+        direct = expansion.direct * this.up;
+        weights = expansion.weights.clone();
+
+        stepRe = new double[branches];
+        stepIm = new double[branches];
+        expansion.powers(this.up, stepRe, stepIm, 0, 1);
+
+        inputRe = new double[branches];
+        inputIm = new double[branches];
+
+        for (int branch = 0; branch < branches; branch++) {
+            inputRe[branch] = expansion.residueRe[branch] * this.up;
+            inputIm[branch] = expansion.residueIm[branch] * this.up;
+        }
+
+        phaseRe = new double[branches * this.up];
+        phaseIm = new double[branches * this.up];
+
+        for (int j = 0; j < this.up; j++)
+            expansion.powers(j, phaseRe, phaseIm, j, this.up);
+
+        stateRe = new double[branches];
+        stateIm = new double[branches];
+    }
+
+    static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    /**
+     * Choose the anti-alias cutoff for a change of sampling rate by <i>up</i> / <i>down</i>
+     *
+     * @return the cutoff, as a fraction of the upsampled rate (after reducing the ratio to lowest terms)
+     */
+    public static double antiAliasCutoff(int up, int down) {
+        if (up <= 0 || down <= 0)
+            throw new IllegalArgumentException("up and down must be positive");
+
+        int divisor = gcd(up, down);
+
+        return PASSBAND_FRACTION * .5 / (Math.max(up, down) / divisor);
+    }
+
+    public int getUp() {
+        return up;
+    }
+
+    public int getDown() {
+        return down;
+    }
+
+    /**
+     * @param inputs a number of input samples
+     * @return the largest number of output samples {@link #process} can produce from that many inputs
+     */
+    public int outputCapacity(int inputs) {
+        return (int) (((long) inputs * up + down - 1) / down);
+    }
+
+    /**
+     * Resample a block of input
+     *
+     * @param in the input samples
+     * @param off the offset of the first input sample
+     * @param len the number of input samples
+     * @param out receives the output samples; must have room for {@link #outputCapacity(int) outputCapacity(len)}
+     * @param outOff the offset at which to store the first output sample
+     * @return the number of output samples produced
+     */
+    public int process(double[] in, int off, int len, double[] out, int outOff) {
+        IirFilter.checkBounds(in, off, in, off, len);
+
+        if (outOff < 0 || out.length - outOff < outputCapacity(len))
+            throw new IndexOutOfBoundsException("out has room for fewer than " + outputCapacity(len) + " samples");
+
+        int branches = stateRe.length;
+        int produced = 0;
+
+        for (int index = 0; index < len; index++) {
+            double sample = in[off + index];
+
+            for (int branch = 0; branch < branches; branch++) {
+                double re = stepRe[branch] * stateRe[branch] - stepIm[branch] * stateIm[branch] + inputRe[branch] * sample;
+                double im = stepRe[branch] * stateIm[branch] + stepIm[branch] * stateRe[branch] + inputIm[branch] * sample;
+
+                stateRe[branch] = re;
+                stateIm[branch] = im;
+            }
+
+            for (; phase < up; phase += down) {
+                double output = phase == 0 ? direct * sample : 0;
+
+                for (int branch = 0, position = phase; branch < branches; branch++, position += up)
+                    output += weights[branch] * (phaseRe[position] * stateRe[branch] - phaseIm[position] * stateIm[branch]);
+
+                out[outOff + produced++] = output;
+            }
+
+            phase -= up;
+        }
+
+        return produced;
+    }
+
+    public void reset() {
+        for (int branch = 0; branch < stateRe.length; branch++) {
+            stateRe[branch] = 0;
+            stateIm[branch] = 0;
+        }
+
+        phase = 0;
+    }
+}
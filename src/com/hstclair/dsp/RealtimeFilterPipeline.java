@@ -0,0 +1,215 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Connects a producer thread (e.g. a capture callback) to a consumer thread which filters the samples and hands them
+ * to a {@link SampleSink}.  The two are joined by a lock free {@link DoubleRingBuffer}, so neither side ever takes a
+ * lock.  When the buffer is full the producer either waits or drops samples, according to its {@link OverflowPolicy}.
+ *
+ * The consumer records the time from each sample being written to its filtered block being handed to the sink, and
+ * exposes the distribution as latency percentiles.
+ *
+ * If the filter or the sink throws, the consumer records the exception and stops; the next {@link #write} (or
+ * {@link #close()}) then throws an {@link IllegalStateException} caused by it.
+ *
+ * @author hstclair
+ * @since 10/17/26 6:30 PM
+ */
+public class RealtimeFilterPipeline implements AutoCloseable {
+
+    static final int DEFAULT_BLOCK_SIZE = 256;
+
+    /** the number of empty polls the consumer spins through before it starts to park */
+    static final int SPIN_LIMIT = 100;
+
+    static final long PARK_NANOS = 20000;
+
+    final DigitalFilter filter;
+    final SampleSink sink;
+    final OverflowPolicy policy;
+
+    final DoubleRingBuffer ring;
+
+    final double[] block;
+    final long[] stamps;
+
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    final AtomicLong dropped = new AtomicLong();
+    final AtomicLong processed = new AtomicLong();
+
+    final Thread consumer;
+
+    volatile boolean running = true;
+
+    /** the exception that stopped the consumer, if any */
+    volatile Throwable failure;
+
+    public RealtimeFilterPipeline(DigitalFilter filter, SampleSink sink, int capacity, OverflowPolicy policy) {
+        this(filter, sink, capacity, policy, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Create a pipeline and start its consumer thread
+     *
+     * @param filter the filter run by the consumer
+     * @param sink receives the filtered samples, on the consumer thread
+     * @param capacity the capacity of the ring buffer, in samples
+     * @param policy what the producer does when the ring buffer is full
+     * @param blockSize the largest number of samples the consumer filters at a time
+     */
+    public RealtimeFilterPipeline(DigitalFilter filter, SampleSink sink, int capacity, OverflowPolicy policy, int blockSize) {
+        this.filter = Objects.requireNonNull(filter);
+        this.sink = Objects.requireNonNull(sink);
+        this.policy = Objects.requireNonNull(policy);
+
+        if (blockSize <= 0)
+            throw new IllegalArgumentException("blockSize must be positive");
+
+        ring = new DoubleRingBuffer(capacity);
+
+        block = new double[blockSize];
+        stamps = new long[blockSize];
+
+        consumer = new Thread(this::consume, "RealtimeFilterPipeline-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Submit samples for filtering.  Producer thread only.
+     *
+     * @param samples the samples
+     * @param off the offset of the first sample
+     * @param len the number of samples
+     * @return the number of samples accepted; less than <i>len</i> only if the policy is {@link OverflowPolicy#DROP}
+     */
+    public int write(double[] samples, int off, int len) {
+        IirFilter.checkBounds(samples, off, samples, off, len);
+
+        checkRunning();
+
+        long timestamp = System.nanoTime();
+
+        int accepted = ring.offer(samples, off, len, timestamp);
+
+        if (policy == OverflowPolicy.DROP) {
+            if (accepted < len)
+                dropped.addAndGet(len - accepted);
+
+            return accepted;
+        }
+
+        while (accepted < len) {
+            checkRunning();
+
+            Thread.yield();
+
+            accepted += ring.offer(samples, off + accepted, len - accepted, timestamp);
+        }
+
+        return accepted;
+    }
+
+    void checkRunning() {
+        checkFailure();
+
+        if (!running)
+            throw new IllegalStateException("Pipeline is closed");
+    }
+
+    void checkFailure() {
+        Throwable failure = this.failure;
+
+        if (failure != null)
+            throw new IllegalStateException("Pipeline consumer failed", failure);
+    }
+
+    void consume() {
+        try {
+            drain();
+        } catch (Throwable ex) {
+            failure = ex;
+            running = false;
+        }
+    }
+
+    void drain() {
+        int idle = 0;
+
+        while (running || ring.size() > 0) {
+            int count = ring.poll(block, 0, block.length, stamps);
+
+            if (count == 0) {
+                if (++idle < SPIN_LIMIT)
+                    Thread.yield();
+                else
+                    LockSupport.parkNanos(PARK_NANOS);
+
+                continue;
+            }
+
+            idle = 0;
+
+            filter.process(block, 0, block, 0, count);
+            sink.accept(block, 0, count);
+
+            long now = System.nanoTime();
+
+            // samples written together share a timestamp, so record one latency per run of equal stamps
+            for (int index = 0; index < count; index++)
+                if (index == 0 || stamps[index] != stamps[index - 1])
+                    latency.record(now - stamps[index]);
+
+            processed.addAndGet(count);
+        }
+    }
+
+    /**
+     * @param percentile the percentile, in the range [0, 100]
+     * @return the end-to-end latency in nanoseconds at that percentile
+     */
+    public long getLatencyPercentile(double percentile) {
+        return latency.percentile(percentile);
+    }
+
+    public long getDroppedSamples() {
+        return dropped.get();
+    }
+
+    public long getProcessedSamples() {
+        return processed.get();
+    }
+
+    /**
+     * Stop accepting samples, then wait for the consumer to filter everything already written.  If the calling thread
+     * is interrupted the wait continues, and the interrupt status is restored once the consumer has finished.
+     *
+     * @throws IllegalStateException if the consumer was stopped by an exception
+     */
+    @Override
+    public void close() {
+        running = false;
+
+        LockSupport.unpark(consumer);
+
+        boolean interrupted = false;
+
+        while (true) {
+            try {
+                consumer.join();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        checkFailure();
+    }
+}
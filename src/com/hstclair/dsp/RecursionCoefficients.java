@@ -11,8 +11,8 @@ public abstract class RecursionCoefficients {
     final double[] b;
 
     RecursionCoefficients(int poles) {
-        a = new double[poles];
-        b = new double[poles];
+        a = new double[poles + 1];
+        b = new double[poles + 1];
         a[0] = 1;
         b[0] = -1;
     }
@@ -21,7 +21,7 @@ public abstract class RecursionCoefficients {
         coefficientSet.apply(a, b);
     }
 
-    public void adjustGain() {
+    void adjustGain() {
         double gain = computeGainAdjustment();
 
         for (int index = 0; index < a.length; index++)
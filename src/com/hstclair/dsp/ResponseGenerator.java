@@ -0,0 +1,222 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Generates impulse and step responses, stopping as soon as the response has decayed rather than at a fixed length.
+ *
+ * The impulse response is produced a window at a time and generation stops after the first window whose energy is
+ * less than <i>epsilon</i> times the energy of the response so far.  (A relative threshold keeps the slow initial
+ * rise of a narrow low pass design from being mistaken for decay.)  The step response is the running sum of the
+ * impulse response and stops at the same point.
+ *
+ * For a {@link BiquadCascade} the radius of each section's pole pair bounds the decay: the slowest pole, of radius r,
+ * decays as r^n, which gives an estimate of the length used to size the buffer in advance.  The window is also
+ * stretched to at least one period of that pole's oscillation, so that a zero crossing is never mistaken for decay.
+ *
+ * Results are written to a buffer owned by the generator and reused (growing as needed) by subsequent calls, so a
+ * generator may validate any number of designs without allocating for each one.  A generator is not thread safe.
+ *
+ * @author hstclair
+ * @since 10/18/26 12:10 AM
+ */
+public class ResponseGenerator {
+
+    static final int MIN_WINDOW = 64;
+
+    static final int INITIAL_CAPACITY = 1024;
+
+    final double epsilon;
+    final int maxLength;
+
+    double[] buffer = new double[INITIAL_CAPACITY];
+    double[] zeros = new double[MIN_WINDOW];
+
+    int length;
+
+    /**
+     * @param epsilon the energy, relative to the energy of the response so far, below which a window is taken to show
+     *                that the response has decayed
+     * @param maxLength the longest response that will be generated
+     */
+    public ResponseGenerator(double epsilon, int maxLength) {
+        if (!(epsilon > 0 && epsilon < 1))
+            throw new IllegalArgumentException("epsilon must be in the range (0, 1)");
+
+        if (maxLength <= 0)
+            throw new IllegalArgumentException("maxLength must be positive");
+
+        this.epsilon = epsilon;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Estimate the length after which the impulse response of a cascade has decayed below a relative energy
+     *
+     * @param cascade the design
+     * @param epsilon the relative energy
+     * @return the estimated number of samples
+     */
+    public static int estimateLength(BiquadCascade cascade, double epsilon) {
+        double radius = cascade.maxPoleRadius();
+
+        if (radius >= 1)
+            return Integer.MAX_VALUE;
+
+        if (radius == 0)
+            return cascade.order() + 1;
+
+        // the energy of the tail decays as r^2n; allow one time constant per section for the initial rise and for the
+        // polynomial growth contributed by nearly coincident poles
+        double samples = Math.log(epsilon) / (2 * Math.log(radius)) + cascade.sections() / (1 - radius);
+
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(samples));
+    }
+
+    /**
+     * @return a window spanning at least one period of the cascade's slowest decaying pole pair
+     */
+    static int window(BiquadCascade cascade, int limit) {
+        double radius = 0;
+        double angle = 0;
+
+        for (int offset = 0; offset < cascade.coefficients.length; offset += BiquadCascade.STRIDE) {
+            double b1 = cascade.coefficients[offset + 3];
+            double b2 = cascade.coefficients[offset + 4];
+
+            double sectionRadius = BiquadCascade.poleRadius(b1, b2);
+
+            if (sectionRadius > radius) {
+                radius = sectionRadius;
+
+                double discriminant = b1 * b1 + 4 * b2;
+
+                angle = discriminant < 0 ? Math.atan2(Math.sqrt(-discriminant), b1) : 0;
+            }
+        }
+
+        if (angle == 0)
+            return MIN_WINDOW;
+
+        return (int) Math.max(MIN_WINDOW, Math.min(limit, Math.ceil(2 * Math.PI / angle)));
+    }
+
+    /**
+     * Generate the impulse response of a filter.  The filter is reset first.
+     *
+     * @param filter the filter
+     * @return the length of the response, which is held in the first elements of {@link #getBuffer()}
+     */
+    public int impulse(DigitalFilter filter) {
+        return impulse(filter, MIN_WINDOW, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Generate the impulse response of a cascade
+     *
+     * @param cascade the design
+     * @return the length of the response, which is held in the first elements of {@link #getBuffer()}
+     */
+    public int impulse(BiquadCascade cascade) {
+        int estimate = estimateLength(cascade, epsilon);
+
+        return impulse(new BiquadCascadeFilter(cascade), window(cascade, estimate), estimate);
+    }
+
+    /**
+     * Generate the step response of a filter.  The filter is reset first.
+     *
+     * @param filter the filter
+     * @return the length of the response, which is held in the first elements of {@link #getBuffer()}
+     */
+    public int step(DigitalFilter filter) {
+        return integrate(impulse(filter));
+    }
+
+    /**
+     * Generate the step response of a cascade
+     *
+     * @param cascade the design
+     * @return the length of the response, which is held in the first elements of {@link #getBuffer()}
+     */
+    public int step(BiquadCascade cascade) {
+        return integrate(impulse(cascade));
+    }
+
+    int integrate(int count) {
+        double sum = 0;
+
+        for (int index = 0; index < count; index++) {
+            sum += buffer[index];
+            buffer[index] = sum;
+        }
+
+        return count;
+    }
+
+    int impulse(DigitalFilter filter, int window, int estimate) {
+        Objects.requireNonNull(filter);
+
+        window = Math.min(window, maxLength);
+
+        ensureCapacity(Math.max(window, Math.min(estimate, maxLength)));
+
+        if (zeros.length < window)
+            zeros = new double[window];
+
+        filter.reset();
+
+        buffer[0] = filter.process(1);
+
+        double total = buffer[0] * buffer[0];
+        int position = 1;
+
+        while (position < maxLength) {
+            int count = Math.min(window, maxLength - position);
+
+            ensureCapacity(position + count);
+
+            filter.process(zeros, 0, buffer, position, count);
+
+            double energy = 0;
+
+            for (int index = position; index < position + count; index++)
+                energy += buffer[index] * buffer[index];
+
+            total += energy;
+            position += count;
+
+            if (energy <= epsilon * total)
+                break;
+        }
+
+        length = position;
+
+        return position;
+    }
+
+    void ensureCapacity(int capacity) {
+        if (buffer.length >= capacity)
+            return;
+
+        double[] larger = new double[(int) Math.min(maxLength, Math.max(capacity, 2L * buffer.length))];
+
+        System.arraycopy(buffer, 0, larger, 0, buffer.length);
+
+        buffer = larger;
+    }
+
+    /**
+     * @return the buffer holding the most recent response; it is replaced only when a longer response is needed
+     */
+    public double[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the length of the most recent response
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hstclair.dsp;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Raw PCM sample encodings.  Integer samples are converted to and from double without scaling; on the way back they
+ * are rounded and saturated to the range of the encoding.  The byte order is that of the buffer.
+ *
+ * @author hstclair
+ * @since 10/17/26 4:10 PM
+ */
+public enum SampleFormat {
+    INT16(2) {
+        @Override
+        double read(ByteBuffer buffer) {
+            return buffer.getShort();
+        }
+
+        @Override
+        void write(ByteBuffer buffer, double sample) {
+            buffer.putShort((short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(sample))));
+        }
+    },
+
+    INT32(4) {
+        @Override
+        double read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+        @Override
+        void write(ByteBuffer buffer, double sample) {
+            buffer.putInt((int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, Math.round(sample))));
+        }
+    },
+
+    FLOAT32(4) {
+        @Override
+        double read(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+
+        @Override
+        void write(ByteBuffer buffer, double sample) {
+            buffer.putFloat((float) sample);
+        }
+    },
+
+    FLOAT64(8) {
+        @Override
+        double read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+        @Override
+        void write(ByteBuffer buffer, double sample) {
+            buffer.putDouble(sample);
+        }
+    };
+
+    final int bytes;
+
+    SampleFormat(int bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return the size of one sample, in bytes
+     */
+    public int bytes() {
+        return bytes;
+    }
+
+    /**
+     * read one sample at the buffer's position, advancing the position
+     */
+    abstract double read(ByteBuffer buffer);
+
+    /**
+     * write one sample at the buffer's position, advancing the position
+     */
+    abstract void write(ByteBuffer buffer, double sample);
+}
@@ -0,0 +1,12 @@
+package com.hstclair.dsp;
+
+/**
+ * Receives blocks of filtered samples.  The array is reused once the call returns, so a sink must copy anything it
+ * wants to keep.
+ *
+ * @author hstclair
+ * @since 10/17/26 6:20 PM
+ */
+public interface SampleSink {
+    void accept(double[] samples, int off, int len);
+}
@@ -0,0 +1,37 @@
+package com.hstclair.dsp;
+
+/**
+ * Random access storage for a long run of samples, such as an array or a memory mapped file.  Algorithms that must
+ * revisit a signal (e.g. {@link ZeroPhaseFilter}) work through a store so that they only ever hold one block of it in
+ * memory.  Stores report I/O failures as {@link java.io.UncheckedIOException}.
+ *
+ * @author hstclair
+ * @since 10/17/26 5:00 PM
+ */
+public interface SampleStore {
+
+    /**
+     * @return the number of samples in the store
+     */
+    long length();
+
+    /**
+     * Copy samples out of the store
+     *
+     * @param position the index of the first sample to read
+     * @param buffer the array receiving the samples
+     * @param off the offset within <i>buffer</i> of the first sample
+     * @param len the number of samples to read
+     */
+    void read(long position, double[] buffer, int off, int len);
+
+    /**
+     * Copy samples into the store
+     *
+     * @param position the index of the first sample to write
+     * @param buffer the array holding the samples
+     * @param off the offset within <i>buffer</i> of the first sample
+     * @param len the number of samples to write
+     */
+    void write(long position, double[] buffer, int off, int len);
+}
@@ -0,0 +1,141 @@
+package com.hstclair.dsp;
+
+import java.util.Objects;
+
+/**
+ * Zero phase (forward-backward, or "filtfilt") filtering over a {@link SampleStore}, using bounded memory.
+ *
+ * The signal is extended at each end by an odd reflection of 3 * (order + 1) samples, and each pass starts from the
+ * filter's steady state for the first sample it sees, which suppresses start-up transients at both edges.  The
+ * forward pass runs block by block from the start of the store, writing its output back in place; the backward
+ * pass then runs block by block from the end, reversing each block in memory.  Only a single block and the edge
+ * extensions are ever held in memory, so the store may be a memory mapped file far larger than the heap.
+ *
+ * The result has the squared magnitude response of the design and no phase shift.
+ *
+ * @author hstclair
+ * @since 10/17/26 5:20 PM
+ */
+public class ZeroPhaseFilter {
+
+    static final int DEFAULT_BLOCK_SIZE = 8192;
+
+    final DigitalFilter filter;
+
+    final int padLength;
+
+    final double[] block;
+
+    /** the first and last padLength + 1 samples of the original signal */
+    final double[] head;
+    final double[] tail;
+
+    /** the forward pass output over the trailing extension */
+    final double[] extension;
+
+    public ZeroPhaseFilter(RecursionCoefficients recursionCoefficients) {
+        this(new IirFilter(recursionCoefficients), DEFAULT_BLOCK_SIZE);
+    }
+
+    public ZeroPhaseFilter(BiquadCascade cascade) {
+        this(new BiquadCascadeFilter(cascade), DEFAULT_BLOCK_SIZE);
+    }
+
+    ZeroPhaseFilter(IirFilter filter, int blockSize) {
+        this(filter, filter.order(), blockSize);
+    }
+
+    ZeroPhaseFilter(BiquadCascadeFilter filter, int blockSize) {
+        this(filter, filter.sections() * 2, blockSize);
+    }
+
+    ZeroPhaseFilter(DigitalFilter filter, int order, int blockSize) {
+        this.filter = Objects.requireNonNull(filter);
+
+        if (blockSize <= 0)
+            throw new IllegalArgumentException("blockSize must be positive");
+
+        padLength = 3 * (order + 1);
+
+        block = new double[blockSize];
+
+        head = new double[padLength + 1];
+        tail = new double[padLength + 1];
+        extension = new double[padLength];
+    }
+
+    /**
+     * Filter a signal in place
+     *
+     * @param signal the samples
+     */
+    public void filter(double[] signal) {
+        filter(new ArraySampleStore(signal));
+    }
+
+    /**
+     * Filter the contents of a store in place
+     *
+     * @param store the samples
+     */
+    public void filter(SampleStore store) {
+        Objects.requireNonNull(store);
+
+        long length = store.length();
+
+        if (length <= padLength)
+            throw new IllegalArgumentException(String.format("Signal must be longer than %d samples", padLength));
+
+        // keep the original edge samples; the forward pass overwrites them
+        store.read(0, head, 0, padLength + 1);
+        store.read(length - padLength - 1, tail, 0, padLength + 1);
+
+        double first = head[0];
+        double last = tail[padLength];
+
+        // forward over the leading extension: 2 * x[0] - x[padLength], ..., 2 * x[0] - x[1]
+        filter.setSteadyState(2 * first - head[padLength]);
+
+        for (int index = padLength; index > 0; index--)
+            filter.process(2 * first - head[index]);
+
+        for (long position = 0; position < length; position += block.length) {
+            int count = (int) Math.min(block.length, length - position);
+
+            store.read(position, block, 0, count);
+            filter.process(block, 0, block, 0, count);
+            store.write(position, block, 0, count);
+        }
+
+        // forward over the trailing extension: 2 * x[n-1] - x[n-2], ..., 2 * x[n-1] - x[n-1-padLength]
+        for (int index = 0; index < padLength; index++)
+            extension[index] = filter.process(2 * last - tail[padLength - 1 - index]);
+
+        // backward over the trailing extension, starting from the steady state of the last forward output
+        filter.setSteadyState(extension[padLength - 1]);
+
+        for (int index = padLength - 1; index >= 0; index--)
+            filter.process(extension[index]);
+
+        for (long end = length; end > 0; end -= block.length) {
+            int count = (int) Math.min(block.length, end);
+            long position = end - count;
+
+            store.read(position, block, 0, count);
+
+            reverse(block, count);
+            filter.process(block, 0, block, 0, count);
+            reverse(block, count);
+
+            store.write(position, block, 0, count);
+        }
+    }
+
+    static void reverse(double[] values, int count) {
+        for (int low = 0, high = count - 1; low < high; low++, high--) {
+            double value = values[low];
+            values[low] = values[high];
+            values[high] = value;
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package com.hstclair.math.polynomials;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A polynomial which is modified in place, for chains of arithmetic that would otherwise allocate a new
+ * {@link Polynomial} (and coefficient array) at every step.
+ *
+ * Coefficients are held in ascending order of power, as in {@link Polynomial}, in an array which only ever grows;
+ * together with two scratch arrays for products and compositions this lets a single instance be reused as a workspace
+ * across any number of operations.  Once the arrays have grown, operations allocate nothing except where they hand work
+ * to an algorithm with working storage of its own: products long enough for {@link PolynomialMultiplier} to use an FFT
+ * (or Karatsuba, if the default multiplier enables it), and Taylor shifts (so also Budan transforms) of more than 256
+ * coefficients.  Every operation performs the same floating point operations in the same order as its
+ * {@link Polynomial} counterpart, so {@link #freeze()} returns exactly the polynomial the immutable chain would have
+ * produced.
+ *
+ * Instances are not thread safe.
+ *
+ * @author hstclair
+ * @since 10/18/26 3:00 AM
+ */
+public final class MutablePolynomial {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    double[] coefficients;
+
+    /** the number of coefficients in use; the highest is never zero */
+    int length;
+
+    double[] scratch;
+    double[] spare;
+
+    public MutablePolynomial() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the number of coefficients to allocate room for up front
+     */
+    public MutablePolynomial(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must not be negative");
+
+        coefficients = new double[capacity];
+        scratch = new double[capacity];
+        spare = new double[capacity];
+    }
+
+    public MutablePolynomial(Polynomial polynomial) {
+        this(Math.max(DEFAULT_CAPACITY, Objects.requireNonNull(polynomial).coefficients.length));
+
+        set(polynomial);
+    }
+
+    /**
+     * Replace the value of this polynomial
+     *
+     * @param polynomial the new value
+     * @return this
+     */
+    public MutablePolynomial set(Polynomial polynomial) {
+        Objects.requireNonNull(polynomial);
+
+        return set(polynomial.coefficients, polynomial.coefficients.length);
+    }
+
+    /**
+     * Replace the value of this polynomial
+     *
+     * @param coefficients the new coefficients, in ascending order of power
+     * @return this
+     */
+    public MutablePolynomial set(double[] coefficients) {
+        Objects.requireNonNull(coefficients);
+
+        return set(coefficients, coefficients.length);
+    }
+
+    MutablePolynomial set(double[] coefficients, int length) {
+        ensureCapacity(length);
+
+        System.arraycopy(coefficients, 0, this.coefficients, 0, length);
+
+        this.length = trimmedLength(this.coefficients, length);
+
+        return this;
+    }
+
+    /**
+     * @return this, set to zero
+     */
+    public MutablePolynomial clear() {
+        length = 0;
+
+        return this;
+    }
+
+    /**
+     * @return the degree of the polynomial (-1 for zero, as for {@link Polynomial#ZERO})
+     */
+    public int degree() {
+        return length - 1;
+    }
+
+    public double constant() {
+        return length == 0 ? 0 : coefficients[0];
+    }
+
+    public double leadingCoefficient() {
+        return length == 0 ? 0 : coefficients[length - 1];
+    }
+
+    /**
+     * @param power the power of X
+     * @return the coefficient of X^power
+     */
+    public double coefficient(int power) {
+        if (power < 0)
+            throw new IllegalArgumentException("power must not be negative");
+
+        return power < length ? coefficients[power] : 0;
+    }
+
+    /**
+     * @return the number of coefficients that can be held without reallocating
+     */
+    public int capacity() {
+        return coefficients.length;
+    }
+
+    /**
+     * @see Polynomial#sum(Polynomial)
+     */
+    public MutablePolynomial add(Polynomial addend) {
+        Objects.requireNonNull(addend);
+
+        if (length == 0)
+            return set(addend);
+
+        double[] other = addend.coefficients;
+
+        if (other.length > length) {
+            ensureCapacity(other.length);
+
+            Arrays.fill(coefficients, length, other.length, 0);
+        }
+
+        for (int index = 0; index < other.length; index++)
+            coefficients[index] += other[index];
+
+        length = trimmedLength(coefficients, Math.max(length, other.length));
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#sum(double)
+     */
+    public MutablePolynomial add(double addend) {
+        ensureCapacity(1);
+
+        length = addConstant(coefficients, length, addend);
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#difference(Polynomial)
+     */
+    public MutablePolynomial subtract(Polynomial subtrahend) {
+        Objects.requireNonNull(subtrahend);
+
+        double[] other = subtrahend.coefficients;
+
+        if (length == 0) {
+            set(subtrahend);
+
+            return negate();
+        }
+
+        if (other.length > length) {
+            ensureCapacity(other.length);
+
+            Arrays.fill(coefficients, length, other.length, 0);
+        }
+
+        for (int index = 0; index < other.length; index++)
+            coefficients[index] -= other[index];
+
+        length = trimmedLength(coefficients, Math.max(length, other.length));
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#negate()
+     */
+    public MutablePolynomial negate() {
+        for (int index = 0; index < length; index++)
+            coefficients[index] = -coefficients[index];
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#product(double)
+     */
+    public MutablePolynomial multiply(double multiplicand) {
+        if (multiplicand == 1)
+            return this;
+
+        length = scale(coefficients, length, multiplicand, coefficients);
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#divide(double)
+     */
+    public MutablePolynomial divide(double divisor) {
+        if (divisor == 0)
+            throw new IllegalArgumentException("Cannot divide by zero");
+
+        if (divisor == 1)
+            return this;
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = coefficients[index] / divisor;
+
+        length = trimmedLength(coefficients, length);
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#product(Polynomial)
+     */
+    public MutablePolynomial multiply(Polynomial multiplicand) {
+        Objects.requireNonNull(multiplicand);
+
+        double[] other = multiplicand.coefficients;
+
+        if (length == 0 || other.length == 0) {
+            length = 0;
+
+            return this;
+        }
+
+        int productLength = length + other.length - 1;
+
+        ensureScratchCapacity(productLength);
+
+        length = product(coefficients, length, other, other.length, scratch);
+
+        swapScratch();
+
+        return this;
+    }
+
+    /**
+     * Substitute a polynomial for the variable, in place.  The result is that of {@link Polynomial#apply(Polynomial)}.
+     *
+     * @param polynomial the expression to substitute for X
+     * @return this
+     */
+    public MutablePolynomial compose(Polynomial polynomial) {
+        Objects.requireNonNull(polynomial);
+
+        if (length == 0)
+            return this;
+
+        double[] argument = polynomial.coefficients;
+
+        if (argument.length == 0 || length == 1) {
+            length = trimmedLength(coefficients, 1);
+
+            return this;
+        }
+
+        if (polynomial == Polynomial.IDENTITY) {
+            double sum = 0;
+
+            for (int index = 0; index < length; index++)
+                sum += coefficients[index];
+
+            coefficients[0] = sum;
+            length = trimmedLength(coefficients, 1);
+
+            return this;
+        }
+
+        int degree = length - 1;
+
+        ensureScratchCapacity(degree * (argument.length - 1) + 1);
+
+        // Horner's rule, alternating the partial result between the two scratch arrays
+        int resultLength = coefficients[degree] == 1
+                ? copy(argument, argument.length, scratch)
+                : scale(argument, argument.length, coefficients[degree], scratch);
+
+        for (int index = degree - 1; index > 0; index--) {
+            resultLength = addConstant(scratch, resultLength, coefficients[index]);
+            resultLength = product(scratch, resultLength, argument, argument.length, spare);
+
+            double[] swap = scratch;
+            scratch = spare;
+            spare = swap;
+        }
+
+        resultLength = addConstant(scratch, resultLength, coefficients[0]);
+
+        swapScratch();
+
+        length = resultLength;
+
+        return this;
+    }
+
+    /**
+     * Shift the polynomial along the X axis in place, replacing p(x) with p(x + a)
+     *
+     * @see Polynomial#taylorShift(double)
+     */
+    public MutablePolynomial taylorShift(double a) {
+        if (a == 0 || length <= 1)
+            return this;
+
+        if (length > Polynomial.TAYLOR_SHIFT_THRESHOLD)
+            return set(Polynomial.taylorShift(coefficients, 0, length, a));
+
+        Polynomial.taylorShift(coefficients, length, a);
+
+        length = trimmedLength(coefficients, length);
+
+        return this;
+    }
+
+    /**
+     * Apply the Budan transform in place, replacing p(x) with (x + 1)^m p(1/(x + 1))
+     *
+     * @see Polynomial#budansTheorem()
+     */
+    public MutablePolynomial budansTheorem() {
+        if (length == 0)
+            return this;
+
+        ensureScratchCapacity(length);
+
+        Polynomial.reverse(coefficients, length, scratch);
+
+        swapScratch();
+
+        length = trimmedLength(coefficients, length);
+
+        return taylorShift(1);
+    }
+
+    /**
+     * Divide by X^reduction, discarding the lowest terms
+     *
+     * @see Polynomial#reduceDegree(int)
+     */
+    public MutablePolynomial reduceDegree(int reduction) {
+        if (reduction < 0)
+            throw new IllegalArgumentException("Reduction by negative amount");
+
+        if (reduction == 0)
+            return this;
+
+        if (length - 1 <= reduction) {
+            length = 0;
+
+            return this;
+        }
+
+        System.arraycopy(coefficients, reduction, coefficients, 0, length - reduction);
+
+        length -= reduction;
+
+        return this;
+    }
+
+    /**
+     * @see Polynomial#signChanges()
+     */
+    public int signChanges() {
+        int count = -1;
+        double lastSign = 0;
+
+        for (int index = 0; index < length; index++) {
+            double coefficient = coefficients[index];
+
+            if ((coefficient == 0) || (lastSign < 0 && coefficient < 0) || (lastSign > 0 && coefficient > 0))
+                continue;
+
+            count++;
+
+            lastSign = coefficient;
+        }
+
+        return Math.max(count, 0);
+    }
+
+    /**
+     * @return an immutable copy of the current value
+     */
+    public Polynomial freeze() {
+        return Polynomial.of(Arrays.copyOf(coefficients, length));
+    }
+
+    void ensureCapacity(int capacity) {
+        if (coefficients.length < capacity)
+            coefficients = Arrays.copyOf(coefficients, Math.max(capacity, 2 * coefficients.length));
+    }
+
+    void ensureScratchCapacity(int capacity) {
+        if (scratch.length < capacity)
+            scratch = new double[Math.max(capacity, 2 * scratch.length)];
+
+        if (spare.length < capacity)
+            spare = new double[Math.max(capacity, 2 * spare.length)];
+    }
+
+    /**
+     * Make the result held in scratch the current value, keeping the old coefficient array as scratch
+     */
+    void swapScratch() {
+        double[] swap = coefficients;
+        coefficients = scratch;
+        scratch = swap;
+    }
+
+    static int trimmedLength(double[] coefficients, int length) {
+        while (length > 0 && coefficients[length - 1] == 0)
+            length--;
+
+        return length;
+    }
+
+    static int copy(double[] source, int length, double[] destination) {
+        System.arraycopy(source, 0, destination, 0, length);
+
+        return length;
+    }
+
+    static int addConstant(double[] coefficients, int length, double addend) {
+        if (length == 0) {
+            coefficients[0] = addend;
+
+            return trimmedLength(coefficients, 1);
+        }
+
+        coefficients[0] += addend;
+
+        return trimmedLength(coefficients, length);
+    }
+
+    static int scale(double[] coefficients, int length, double multiplicand, double[] destination) {
+        if (multiplicand == 0)
+            return 0;
+
+        for (int index = 0; index < length; index++)
+            destination[index] = coefficients[index] * multiplicand;
+
+        return trimmedLength(destination, length);
+    }
+
+    /**
+     * Multiply two polynomials into <i>destination</i>, which must not be either operand
+     *
+     * @return the length of the product
+     */
+    static int product(double[] left, int leftLength, double[] right, int rightLength, double[] destination) {
+        if (leftLength == 0 || rightLength == 0)
+            return 0;
+
+        // a constant operand scales the other, as in Polynomial.product
+        if (leftLength == 1)
+            return scale(right, rightLength, left[0], destination);
+
+        if (rightLength == 1)
+            return scale(left, leftLength, right[0], destination);
+
+        PolynomialMultiplier.getDefault().multiply(left, leftLength, right, rightLength, destination);
+
+        return trimmedLength(destination, leftLength + rightLength - 1);
+    }
+
+    @Override
+    public String toString() {
+        return freeze().toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -24,6 +25,9 @@ public class Polynomial {
 
     public static final Polynomial ONE = new Polynomial(1);
 
+    /** the number of coefficients above which {@link #taylorShift(double)} divides the polynomial in half */
+    static final int TAYLOR_SHIFT_THRESHOLD = 256;
+
     double[] coefficients;
 
     /**
@@ -70,14 +74,7 @@ public class Polynomial {
         if (multiplicand.degree() == 0)
             return product(multiplicand.getCoefficients()[0]);
 
-        double[] newCoefficients = new double[degree() + multiplicand.degree() + 1];
-
-        for (int innerTerm = 0; innerTerm <= degree(); innerTerm++) {
-            for (int outerTerm = 0; outerTerm <= multiplicand.degree(); outerTerm++)
-                newCoefficients[innerTerm + outerTerm] += coefficients[innerTerm] * multiplicand.coefficients[outerTerm];
-        }
-
-        return Polynomial.of(newCoefficients);
+        return Polynomial.of(PolynomialMultiplier.getDefault().multiply(coefficients, multiplicand.coefficients));
     }
 
     public Polynomial product(double multiplicand) {
@@ -328,6 +325,89 @@ public class Polynomial {
         return result.sum(coefficients[0]);
     }
 
+    /**
+     * Shift this polynomial along the X axis, returning p(x + a).  This is equivalent to
+     * <b>apply(Polynomial.of(new double[] { a, 1 }))</b> but needs no intermediate polynomials: the shift is computed
+     * in place by repeated synthetic division, in O(n^2) multiply-adds (or only additions when <i>a</i> is 1).
+     *
+     * High degree polynomials are instead split in half, p(x) = low(x) + x^m high(x), and shifted as
+     * low(x + a) + (x + a)^m high(x + a), so that the work is dominated by products and benefits from fast
+     * multiplication.
+     *
+     * @param a the amount of the shift
+     * @return p(x + a)
+     */
+    public Polynomial taylorShift(double a) {
+        if (a == 0 || degree() <= 0)
+            return this;
+
+        if (coefficients.length > TAYLOR_SHIFT_THRESHOLD)
+            return Polynomial.of(taylorShift(coefficients, 0, coefficients.length, a));
+
+        double[] shifted = coefficients.clone();
+
+        taylorShift(shifted, shifted.length, a);
+
+        return Polynomial.of(shifted);
+    }
+
+    /**
+     * Shift the first <i>length</i> coefficients, in place
+     */
+    static void taylorShift(double[] coefficients, int length, double a) {
+        int degree = length - 1;
+
+        if (a == 1) {
+            for (int pass = 0; pass < degree; pass++) {
+                for (int index = degree - 1; index >= pass; index--)
+                    coefficients[index] += coefficients[index + 1];
+            }
+
+            return;
+        }
+
+        for (int pass = 0; pass < degree; pass++) {
+            for (int index = degree - 1; index >= pass; index--)
+                coefficients[index] += a * coefficients[index + 1];
+        }
+    }
+
+    /**
+     * Shift the polynomial whose coefficients are <i>coefficients[from, to)</i>, dividing it in half until the pieces
+     * are small enough for the in place kernel
+     */
+    static double[] taylorShift(double[] coefficients, int from, int to, double a) {
+        int length = to - from;
+
+        if (length <= TAYLOR_SHIFT_THRESHOLD) {
+            double[] shifted = Arrays.copyOfRange(coefficients, from, to);
+
+            taylorShift(shifted, length, a);
+
+            return shifted;
+        }
+
+        int half = length / 2;
+
+        double[] low = taylorShift(coefficients, from, from + half, a);
+        double[] high = taylorShift(coefficients, from + half, to, a);
+
+        // (x + a)^half
+        double[] power = new double[half + 1];
+
+        power[half] = 1;
+
+        for (int index = half; index > 0; index--)
+            power[index - 1] = power[index] * a * index / (half - index + 1);
+
+        double[] shifted = Arrays.copyOf(Polynomial.of(high).product(Polynomial.of(power)).coefficients, length);
+
+        for (int index = 0; index < low.length; index++)
+            shifted[index] += low[index];
+
+        return shifted;
+    }
+
     double sumOfCoefficients() {
         double result = 0;
 
@@ -422,12 +502,36 @@ public class Polynomial {
      *   if a polynomial is transformed in this manner, the number of roots within interval (0, 1) of the original
      *   polynomial is bounded by the number of sign changes (Descartes Rule of Signs).
      *
+     *   The transform is computed as a reversal of the coefficients followed by a unit {@link #taylorShift(double)},
+     *   in O(n^2) additions.
+     *
      * @return
      */
     public Polynomial budansTheorem() {
-        Function<Integer, Polynomial> function = (k) -> pascal(degree() - k).product(coefficients[k]);
+        if (degree() < 0)
+            return ZERO;
+
+        // x^m f(1/x) simply reverses the coefficients; substituting x + 1 for x then completes the transform
+        double[] transformed = reverse(coefficients, coefficients.length, new double[coefficients.length]);
+
+        if (transformed.length > TAYLOR_SHIFT_THRESHOLD)
+            return Polynomial.of(taylorShift(transformed, 0, transformed.length, 1));
+
+        taylorShift(transformed, transformed.length, 1);
+
+        return Polynomial.of(transformed);
+    }
+
+    /**
+     * Copy the first <i>length</i> coefficients into <i>destination</i> in reverse order
+     *
+     * @return destination
+     */
+    static double[] reverse(double[] coefficients, int length, double[] destination) {
+        for (int index = 0; index < length; index++)
+            destination[index] = coefficients[length - 1 - index];
 
-        return Polynomial.sigma(function, degree());
+        return destination;
     }
 
     public double leadingCoefficient() {
@@ -536,14 +640,45 @@ public class Polynomial {
         return Math.max(count, 0);
     }
 
+    /**
+     * Construct the monic polynomial with the given roots
+     *
+     * @param roots the roots
+     * @return (x - roots[0]) (x - roots[1]) ...
+     */
     public static Polynomial fromRoots(double[] roots) {
-        Polynomial result = Polynomial.of(1);
+        return Polynomial.of(new ProductTree(roots, EMPTY, EMPTY).product());
+    }
 
-        for (double root : roots) {
-            result = result.product(Polynomial.of(new double[] { -root, 1}));
-        }
+    /**
+     * Construct the monic polynomial with the given roots, building the larger products on a pool
+     *
+     * @param roots the roots
+     * @param pool the pool on which to run
+     * @return (x - roots[0]) (x - roots[1]) ... (identical to {@link #fromRoots(double[])})
+     */
+    public static Polynomial fromRoots(double[] roots, ForkJoinPool pool) {
+        return Polynomial.of(new ProductTree(roots, EMPTY, EMPTY).product(pool));
+    }
 
-        return result;
+    /**
+     * Construct the monic polynomial with the given real roots and complex conjugate root pairs.  Each pair
+     * contributes the real quadratic factor (x - (a + bi)) (x - (a - bi)), so no complex arithmetic is needed.
+     *
+     * @param roots the real roots
+     * @param pairReal the real parts of the conjugate pairs
+     * @param pairImaginary the imaginary parts of the conjugate pairs
+     * @return the product of the factors
+     */
+    public static Polynomial fromRoots(double[] roots, double[] pairReal, double[] pairImaginary) {
+        return Polynomial.of(new ProductTree(roots, pairReal, pairImaginary).product());
+    }
+
+    /**
+     * @see #fromRoots(double[], double[], double[])
+     */
+    public static Polynomial fromRoots(double[] roots, double[] pairReal, double[] pairImaginary, ForkJoinPool pool) {
+        return Polynomial.of(new ProductTree(roots, pairReal, pairImaginary).product(pool));
     }
 
     public static Polynomial of(double coefficient) {
@@ -0,0 +1,473 @@
+package com.hstclair.math.polynomials;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Multiplies polynomials, choosing the algorithm by the length of the shorter operand: schoolbook below the Karatsuba
+ * threshold, Karatsuba up to the FFT threshold, and a floating point FFT convolution above it.
+ *
+ * The error of an FFT convolution is bounded relative to the norms of the operands rather than to the individual
+ * products, so a coefficient of the result that is small compared with the operands as a whole may lose all of its
+ * accuracy.  Each FFT product therefore also computes the convolution of the absolute values of the operands, which
+ * bounds the size of the terms summed into each coefficient, and falls back to schoolbook multiplication (whose error
+ * is bounded coefficient by coefficient) unless the error bound is within the configured tolerance of every one of
+ * them.  A coefficient is only exempt from the check if it is structurally zero, which is to say no pair of nonzero
+ * coefficients of the operands contributes to it, so the zero coefficients of sparse, even or odd polynomials do not
+ * cause a fallback.  Before transforming, the variable is scaled by a power of two (exactly) to bring the first and
+ * last coefficients of the product to similar magnitudes, which allows polynomials whose coefficients grow or decay
+ * geometrically to pass the check.
+ *
+ * Karatsuba's middle term, (L0 + L1)(R0 + R1) - L0 R0 - L1 R1, cancels away small coefficients in the same way and
+ * has no such check, so the default multiplier does not use it; a multiplier with a Karatsuba threshold (around
+ * {@link #KARATSUBA_BREAK_EVEN}) trades accuracy in the small coefficients for speed.  The default FFT tolerance is
+ * comparable to the worst case relative error of schoolbook multiplication (n&epsilon; for operands of a few thousand
+ * coefficients), so by default the FFT is only used where it is as accurate.
+ *
+ * {@link Polynomial#product(Polynomial)} uses the multiplier returned by {@link #getDefault()}; its thresholds may be
+ * tuned for the hardware by installing another with {@link #setDefault(PolynomialMultiplier)}.
+ *
+ * @author hstclair
+ * @since 10/18/26 4:00 AM
+ */
+public final class PolynomialMultiplier {
+
+    /** Karatsuba is not used by default, as its error is not bounded coefficient by coefficient */
+    public static final int DEFAULT_KARATSUBA_THRESHOLD = Integer.MAX_VALUE;
+
+    /** the typical operand length above which Karatsuba is faster than schoolbook multiplication */
+    public static final int KARATSUBA_BREAK_EVEN = 96;
+
+    public static final int DEFAULT_FFT_THRESHOLD = 1024;
+    public static final double DEFAULT_FFT_TOLERANCE = 1e-12;
+
+    static volatile PolynomialMultiplier defaultMultiplier =
+            new PolynomialMultiplier(DEFAULT_KARATSUBA_THRESHOLD, DEFAULT_FFT_THRESHOLD, DEFAULT_FFT_TOLERANCE);
+
+    /** the largest power of two by which the coefficients are scaled before an FFT */
+    static final int MAX_SCALE_EXPONENT = 1000;
+
+    /** the twiddle factors for each transform size, indexed by log2 of the size */
+    static final AtomicReferenceArray<double[]> twiddles = new AtomicReferenceArray<>(31);
+
+    final int karatsubaThreshold;
+    final int fftThreshold;
+    final double fftTolerance;
+
+    /**
+     * @param karatsubaThreshold the length of the shorter operand at or above which Karatsuba is used
+     * @param fftThreshold the length of the shorter operand at or above which an FFT is used
+     * @param fftTolerance the largest error bound, relative to the sum of the magnitudes of the terms contributing to
+     *                     a coefficient, accepted from an FFT product
+     */
+    public PolynomialMultiplier(int karatsubaThreshold, int fftThreshold, double fftTolerance) {
+        if (karatsubaThreshold < 2)
+            throw new IllegalArgumentException("karatsubaThreshold must be at least 2");
+
+        if (fftThreshold < 2)
+            throw new IllegalArgumentException("fftThreshold must be at least 2");
+
+        if (!(fftTolerance > 0))
+            throw new IllegalArgumentException("fftTolerance must be positive");
+
+        this.karatsubaThreshold = karatsubaThreshold;
+        this.fftThreshold = fftThreshold;
+        this.fftTolerance = fftTolerance;
+    }
+
+    public static PolynomialMultiplier getDefault() {
+        return defaultMultiplier;
+    }
+
+    public static void setDefault(PolynomialMultiplier multiplier) {
+        defaultMultiplier = Objects.requireNonNull(multiplier);
+    }
+
+    public int getKaratsubaThreshold() {
+        return karatsubaThreshold;
+    }
+
+    public int getFftThreshold() {
+        return fftThreshold;
+    }
+
+    public double getFftTolerance() {
+        return fftTolerance;
+    }
+
+    /**
+     * @param left the coefficients of one operand, in ascending order of power
+     * @param right the coefficients of the other operand
+     * @return the coefficients of the product (untrimmed)
+     */
+    public double[] multiply(double[] left, double[] right) {
+        Objects.requireNonNull(left);
+        Objects.requireNonNull(right);
+
+        if (left.length == 0 || right.length == 0)
+            return Polynomial.EMPTY;
+
+        double[] product = new double[left.length + right.length - 1];
+
+        multiply(left, left.length, right, right.length, product);
+
+        return product;
+    }
+
+    /**
+     * Multiply the first <i>leftLength</i> and <i>rightLength</i> coefficients of two polynomials into
+     * <i>destination</i>, which must not be either operand
+     */
+    void multiply(double[] left, int leftLength, double[] right, int rightLength, double[] destination) {
+        int shorter = Math.min(leftLength, rightLength);
+
+        if (shorter >= fftThreshold) {
+            // an ill conditioned product is left to schoolbook, whose error is bounded coefficient by coefficient
+            if (!fft(left, leftLength, right, rightLength, destination))
+                schoolbook(left, 0, leftLength, right, 0, rightLength, destination, 0);
+
+            return;
+        }
+
+        if (shorter >= karatsubaThreshold)
+            karatsuba(left, leftLength, right, rightLength, destination);
+        else
+            schoolbook(left, 0, leftLength, right, 0, rightLength, destination, 0);
+    }
+
+    static void schoolbook(double[] left, int leftOffset, int leftLength, double[] right, int rightOffset, int rightLength,
+                           double[] destination, int destinationOffset) {
+        Arrays.fill(destination, destinationOffset, destinationOffset + leftLength + rightLength - 1, 0);
+
+        for (int innerTerm = 0; innerTerm < leftLength; innerTerm++) {
+            for (int outerTerm = 0; outerTerm < rightLength; outerTerm++)
+                destination[destinationOffset + innerTerm + outerTerm] += left[leftOffset + innerTerm] * right[rightOffset + outerTerm];
+        }
+    }
+
+    /**
+     * Multiply unbalanced operands by splitting the longer into pieces as long as the shorter
+     */
+    void karatsuba(double[] left, int leftLength, double[] right, int rightLength, double[] destination) {
+        if (leftLength < rightLength) {
+            karatsuba(right, rightLength, left, leftLength, destination);
+            return;
+        }
+
+        int pieceLength = rightLength;
+        int productLength = leftLength + rightLength - 1;
+
+        double[] piece = new double[pieceLength];
+        double[] pieceProduct = new double[2 * pieceLength - 1];
+        double[] scratch = new double[8 * pieceLength + 64];
+
+        Arrays.fill(destination, 0, productLength, 0);
+
+        for (int offset = 0; offset < leftLength; offset += pieceLength) {
+            int count = Math.min(pieceLength, leftLength - offset);
+
+            System.arraycopy(left, offset, piece, 0, count);
+            Arrays.fill(piece, count, pieceLength, 0);
+
+            karatsuba(piece, 0, right, 0, pieceLength, pieceProduct, 0, scratch, 0);
+
+            int end = Math.min(productLength, offset + pieceProduct.length);
+
+            for (int index = offset; index < end; index++)
+                destination[index] += pieceProduct[index - offset];
+        }
+    }
+
+    /**
+     * Multiply two operands of equal length, writing 2 length - 1 coefficients
+     */
+    void karatsuba(double[] left, int leftOffset, double[] right, int rightOffset, int length,
+                   double[] destination, int destinationOffset, double[] scratch, int scratchOffset) {
+        if (length < karatsubaThreshold) {
+            schoolbook(left, leftOffset, length, right, rightOffset, length, destination, destinationOffset);
+            return;
+        }
+
+        int low = length / 2;
+        int high = length - low;
+
+        // z0 = low * low at the bottom of the destination, z2 = high * high above it
+        karatsuba(left, leftOffset, right, rightOffset, low, destination, destinationOffset, scratch, scratchOffset);
+        destination[destinationOffset + 2 * low - 1] = 0;
+        karatsuba(left, leftOffset + low, right, rightOffset + low, high, destination, destinationOffset + 2 * low, scratch, scratchOffset);
+
+        // z1 = (low + high) * (low + high) - z0 - z2
+        int leftSum = scratchOffset;
+        int rightSum = leftSum + high;
+        int middle = rightSum + high;
+
+        for (int index = 0; index < high; index++) {
+            double leftLow = index < low ? left[leftOffset + index] : 0;
+            double rightLow = index < low ? right[rightOffset + index] : 0;
+
+            scratch[leftSum + index] = leftLow + left[leftOffset + low + index];
+            scratch[rightSum + index] = rightLow + right[rightOffset + low + index];
+        }
+
+        karatsuba(scratch, leftSum, scratch, rightSum, high, scratch, middle, scratch, middle + 2 * high - 1);
+
+        for (int index = 0; index < 2 * low - 1; index++)
+            scratch[middle + index] -= destination[destinationOffset + index];
+
+        for (int index = 0; index < 2 * high - 1; index++)
+            scratch[middle + index] -= destination[destinationOffset + 2 * low + index];
+
+        for (int index = 0; index < 2 * high - 1; index++)
+            destination[destinationOffset + low + index] += scratch[middle + index];
+    }
+
+    /**
+     * Multiply by FFT convolution, if the result can be shown to be accurate to within the tolerance
+     *
+     * @return false if the error bound is too large, in which case <i>destination</i> is unchanged
+     */
+    boolean fft(double[] left, int leftLength, double[] right, int rightLength, double[] destination) {
+        int productLength = leftLength + rightLength - 1;
+        int logSize = 32 - Integer.numberOfLeadingZeros(productLength - 1);
+        int size = 1 << logSize;
+
+        double scale = balancingScale(left, leftLength, right, rightLength);
+
+        // pack each operand into the real part and its magnitude into the imaginary part of one complex transform
+        double[] leftTransform = new double[2 * size];
+        double[] rightTransform = new double[2 * size];
+
+        double leftNorm = pack(left, leftLength, scale, leftTransform);
+        double rightNorm = pack(right, rightLength, scale, rightTransform);
+
+        transform(leftTransform, logSize, false);
+        transform(rightTransform, logSize, false);
+
+        // separate the transforms of the values and magnitudes, multiply them pairwise, and recombine them so that
+        // the inverse transform yields the product in the real part and the magnitude product in the imaginary part
+        double[] product = new double[2 * size];
+
+        for (int index = 0; index < size; index++) {
+            int mirror = (size - index) & (size - 1);
+
+            double lr = leftTransform[2 * index], li = leftTransform[2 * index + 1];
+            double lmr = leftTransform[2 * mirror], lmi = -leftTransform[2 * mirror + 1];
+            double rr = rightTransform[2 * index], ri = rightTransform[2 * index + 1];
+            double rmr = rightTransform[2 * mirror], rmi = -rightTransform[2 * mirror + 1];
+
+            // values: (X + conj(X mirror)) / 2; magnitudes: (X - conj(X mirror)) / 2i
+            double avr = (lr + lmr) / 2, avi = (li + lmi) / 2;
+            double amr = (li - lmi) / 2, ami = -(lr - lmr) / 2;
+            double bvr = (rr + rmr) / 2, bvi = (ri + rmi) / 2;
+            double bmr = (ri - rmi) / 2, bmi = -(rr - rmr) / 2;
+
+            double vr = avr * bvr - avi * bvi, vi = avr * bvi + avi * bvr;
+            double mr = amr * bmr - ami * bmi, mi = amr * bmi + ami * bmr;
+
+            product[2 * index] = vr - mi;
+            product[2 * index + 1] = vi + mr;
+        }
+
+        transform(product, logSize, true);
+
+        // the error of each convolution is bounded by a multiple of the product of the operand norms
+        double bound = 3 * Math.ulp(1.0) * logSize * leftNorm * rightNorm;
+
+        double[] contributions = null;
+
+        for (int index = 0; index < productLength; index++) {
+            double magnitude = product[2 * index + 1] / size;
+
+            // written so that a NaN or infinite bound or magnitude rejects the product
+            if (bound <= fftTolerance * (magnitude - bound))
+                continue;
+
+            // a coefficient lost in the rounding error is acceptable only if it is zero by construction
+            if (contributions == null)
+                contributions = contributions(left, leftLength, right, rightLength, logSize);
+
+            if (contributions[2 * index] >= .5)
+                return false;
+
+            product[2 * index] = 0;
+        }
+
+        double unscale = 1;
+        double inverse = 1 / scale;
+
+        for (int index = 0; index < productLength; index++) {
+            destination[index] = product[2 * index] / size * unscale;
+            unscale *= inverse;
+        }
+
+        return true;
+    }
+
+    /**
+     * Count the pairs of nonzero operand coefficients contributing to each coefficient of the product, by convolving
+     * the operands' indicator sequences.  The counts are integers far smaller than 2^52 and the error of the
+     * convolution is far smaller than one half, so rounding recovers them exactly.
+     *
+     * @return the counts, in the real parts of an interleaved complex array
+     */
+    static double[] contributions(double[] left, int leftLength, double[] right, int rightLength, int logSize) {
+        int size = 1 << logSize;
+
+        double[] leftTransform = new double[2 * size];
+        double[] rightTransform = new double[2 * size];
+
+        for (int index = 0; index < leftLength; index++)
+            leftTransform[2 * index] = left[index] != 0 ? 1 : 0;
+
+        for (int index = 0; index < rightLength; index++)
+            rightTransform[2 * index] = right[index] != 0 ? 1 : 0;
+
+        transform(leftTransform, logSize, false);
+        transform(rightTransform, logSize, false);
+
+        for (int index = 0; index < size; index++) {
+            double lr = leftTransform[2 * index], li = leftTransform[2 * index + 1];
+            double rr = rightTransform[2 * index], ri = rightTransform[2 * index + 1];
+
+            leftTransform[2 * index] = lr * rr - li * ri;
+            leftTransform[2 * index + 1] = lr * ri + li * rr;
+        }
+
+        transform(leftTransform, logSize, true);
+
+        for (int index = 0; index < size; index++)
+            leftTransform[2 * index] /= size;
+
+        return leftTransform;
+    }
+
+    /**
+     * @return a power of two by which to scale the variable so that the first and last coefficients of the product
+     *         have similar magnitudes
+     */
+    static double balancingScale(double[] left, int leftLength, double[] right, int rightLength) {
+        double first = Math.abs(firstNonZero(left, leftLength) * firstNonZero(right, rightLength));
+        double last = Math.abs(left[leftLength - 1] * right[rightLength - 1]);
+
+        if (first == 0 || last == 0 || Double.isInfinite(first) || Double.isInfinite(last))
+            return 1;
+
+        int degree = leftLength + rightLength - 2;
+
+        double exponent = (Math.log(first) - Math.log(last)) / Math.log(2) / degree;
+
+        // keep scale^degree well within range
+        int limit = Math.max(0, MAX_SCALE_EXPONENT / degree);
+
+        return Math.scalb(1.0, (int) Math.max(-limit, Math.min(limit, Math.round(exponent))));
+    }
+
+    static double firstNonZero(double[] coefficients, int length) {
+        for (int index = 0; index < length; index++)
+            if (coefficients[index] != 0)
+                return coefficients[index];
+
+        return 0;
+    }
+
+    /**
+     * Store coefficient * scale^index as the real part and its magnitude as the imaginary part
+     *
+     * @return the Euclidean norm of the scaled coefficients
+     */
+    static double pack(double[] coefficients, int length, double scale, double[] transform) {
+        double power = 1;
+        double sum = 0;
+
+        for (int index = 0; index < length; index++) {
+            double value = coefficients[index] * power;
+
+            transform[2 * index] = value;
+            transform[2 * index + 1] = Math.abs(value);
+
+            sum += value * value;
+            power *= scale;
+        }
+
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * An in place iterative radix 2 transform of interleaved complex values
+     *
+     * @param inverse true for the inverse transform (unnormalized)
+     */
+    static void transform(double[] data, int logSize, boolean inverse) {
+        int size = 1 << logSize;
+
+        for (int index = 1, reversed = 0; index < size; index++) {
+            int bit = size >> 1;
+
+            for (; (reversed & bit) != 0; bit >>= 1)
+                reversed ^= bit;
+
+            reversed ^= bit;
+
+            if (index < reversed) {
+                double real = data[2 * index];
+                double imaginary = data[2 * index + 1];
+
+                data[2 * index] = data[2 * reversed];
+                data[2 * index + 1] = data[2 * reversed + 1];
+                data[2 * reversed] = real;
+                data[2 * reversed + 1] = imaginary;
+            }
+        }
+
+        double[] table = twiddles(logSize);
+        double sign = inverse ? 1 : -1;
+
+        for (int span = 1; span < size; span <<= 1) {
+            int stride = size / (2 * span);
+
+            for (int start = 0; start < size; start += 2 * span) {
+                for (int offset = 0; offset < span; offset++) {
+                    double wr = table[2 * offset * stride];
+                    double wi = sign * table[2 * offset * stride + 1];
+
+                    int even = 2 * (start + offset);
+                    int odd = even + 2 * span;
+
+                    double real = data[odd] * wr - data[odd + 1] * wi;
+                    double imaginary = data[odd] * wi + data[odd + 1] * wr;
+
+                    data[odd] = data[even] - real;
+                    data[odd + 1] = data[even + 1] - imaginary;
+                    data[even] += real;
+                    data[even + 1] += imaginary;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return cos and sin of 2 pi k / size for k in [0, size / 2), each computed directly for accuracy
+     */
+    static double[] twiddles(int logSize) {
+        double[] table = twiddles.get(logSize);
+
+        if (table != null)
+            return table;
+
+        int size = 1 << logSize;
+
+        table = new double[Math.max(2, size)];
+
+        for (int index = 0; index < size / 2; index++) {
+            double angle = 2 * Math.PI * index / size;
+
+            table[2 * index] = Math.cos(angle);
+            table[2 * index + 1] = Math.sin(angle);
+        }
+
+        twiddles.compareAndSet(logSize, null, table);
+
+        return table;
+    }
+}
@@ -0,0 +1,164 @@
+package com.hstclair.math.polynomials;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds a polynomial from its roots as a balanced tree of products.  Each real root contributes a linear factor and
+ * each complex conjugate pair a real quadratic factor.  The leaves of the tree are runs of factors totalling up to
+ * {@link #LEAF_DEGREE}, applied one at a time (which is the fastest way to build a small product, and gives exactly
+ * the result of multiplying the factors in turn); each level above multiplies neighbouring leaves of similar degree.
+ * Most of the work is then done in a few large products, where {@link PolynomialMultiplier} can use an FFT wherever
+ * it can show the result is accurate, and each coefficient passes through O(log n) rather than O(n) roundings.
+ *
+ * On a {@link ForkJoinPool} the two halves of each subtree of at least {@link #THRESHOLD} leaves are built in
+ * parallel.  The shape of the tree does not depend on the pool, so the result is the same either way.
+ *
+ * @author hstclair
+ * @since 10/18/26 5:30 AM
+ */
+class ProductTree {
+
+    /** the largest degree of a leaf built by applying factors in turn */
+    static final int LEAF_DEGREE = 32;
+
+    /** the number of leaves below which a subtree is built sequentially */
+    static final int THRESHOLD = 8;
+
+    final double[][] leaves;
+
+    /**
+     * @param roots the real roots
+     * @param pairReal the real parts of complex conjugate root pairs
+     * @param pairImaginary the imaginary parts of the pairs (of either sign)
+     */
+    ProductTree(double[] roots, double[] pairReal, double[] pairImaginary) {
+        Objects.requireNonNull(roots);
+        Objects.requireNonNull(pairReal);
+        Objects.requireNonNull(pairImaginary);
+
+        if (pairReal.length != pairImaginary.length)
+            throw new IllegalArgumentException("pairReal and pairImaginary must have the same length");
+
+        double[][] factors = new double[roots.length + pairReal.length][];
+
+        for (int index = 0; index < roots.length; index++)
+            factors[index] = new double[] { -roots[index], 1 };
+
+        for (int pair = 0; pair < pairReal.length; pair++) {
+            double real = pairReal[pair];
+            double imaginary = pairImaginary[pair];
+
+            // (x - (a + bi))(x - (a - bi)) = x^2 - 2a x + a^2 + b^2
+            factors[roots.length + pair] = new double[] { real * real + imaginary * imaginary, -2 * real, 1 };
+        }
+
+        // a quadratic that does not fit may leave a leaf one short of LEAF_DEGREE, so count as we go
+        double[][] leaves = new double[factors.length][];
+
+        int leaf = 0;
+
+        for (int first = 0; first < factors.length; leaf++) {
+            int last = first;
+            int leafDegree = factors[first].length - 1;
+
+            while (last + 1 < factors.length && leafDegree + factors[last + 1].length - 1 <= LEAF_DEGREE)
+                leafDegree += factors[++last].length - 1;
+
+            leaves[leaf] = leaf(factors, first, last + 1, leafDegree);
+
+            first = last + 1;
+        }
+
+        this.leaves = Arrays.copyOf(leaves, leaf);
+    }
+
+    /**
+     * Multiply factors in turn, exactly as successive calls to {@link Polynomial#product(Polynomial)} would
+     */
+    static double[] leaf(double[][] factors, int from, int to, int degree) {
+        double[] product = new double[degree + 1];
+        double[] next = new double[degree + 1];
+
+        int length = factors[from].length;
+
+        System.arraycopy(factors[from], 0, product, 0, length);
+
+        for (int index = from + 1; index < to; index++) {
+            double[] factor = factors[index];
+
+            PolynomialMultiplier.schoolbook(product, 0, length, factor, 0, factor.length, next, 0);
+
+            length += factor.length - 1;
+
+            double[] swap = product;
+            product = next;
+            next = swap;
+        }
+
+        return product;
+    }
+
+    /**
+     * @return the coefficients of the product of all the factors
+     */
+    double[] product() {
+        if (leaves.length == 0)
+            return new double[] { 1 };
+
+        return product(leaves, 0, leaves.length);
+    }
+
+    /**
+     * @return the coefficients of the product of all the factors, computed on the pool
+     */
+    double[] product(ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+
+        if (leaves.length < THRESHOLD)
+            return product();
+
+        return pool.invoke(new ProductTask(leaves, 0, leaves.length));
+    }
+
+    static double[] product(double[][] leaves, int from, int to) {
+        if (to - from == 1)
+            return leaves[from];
+
+        int middle = (from + to) >>> 1;
+
+        return PolynomialMultiplier.getDefault().multiply(product(leaves, from, middle), product(leaves, middle, to));
+    }
+
+    static class ProductTask extends RecursiveTask<double[]> {
+        private static final long serialVersionUID = 1L;
+
+        final double[][] leaves;
+        final int from;
+        final int to;
+
+        ProductTask(double[][] leaves, int from, int to) {
+            this.leaves = leaves;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from < THRESHOLD)
+                return product(leaves, from, to);
+
+            int middle = (from + to) >>> 1;
+
+            ProductTask high = new ProductTask(leaves, middle, to);
+
+            high.fork();
+
+            double[] low = new ProductTask(leaves, from, middle).compute();
+
+            return PolynomialMultiplier.getDefault().multiply(low, high.join());
+        }
+    }
+}
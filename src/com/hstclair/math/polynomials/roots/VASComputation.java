@@ -3,6 +3,7 @@ package com.hstclair.math.polynomials.roots;
 import com.hstclair.math.Interval;
 import com.hstclair.math.RealMobiusTransformation;
 import com.hstclair.math.polynomials.LocalMaxQuadraticLowerBound;
+import com.hstclair.math.polynomials.MutablePolynomial;
 import com.hstclair.math.polynomials.Polynomial;
 
 import java.util.LinkedList;
@@ -14,14 +15,21 @@ import java.util.List;
  */
 public class VASComputation implements VASOperation {
     static final LocalMaxQuadraticLowerBound lowerBoundEstimator = new LocalMaxQuadraticLowerBound();
-    static final Polynomial xPlusOne = Polynomial.of(new double[] { 1, 1 });
 
     Polynomial polynomial;
     RealMobiusTransformation mobius;
 
+    /** scratch space for shifts and compositions, shared with the computations this one spawns (they are evaluated in turn) */
+    final MutablePolynomial workspace;
+
     VASComputation(Polynomial polynomial, RealMobiusTransformation mobius) {
+        this(polynomial, mobius, new MutablePolynomial(polynomial.degree() + 1));
+    }
+
+    VASComputation(Polynomial polynomial, RealMobiusTransformation mobius, MutablePolynomial workspace) {
         this.polynomial = polynomial;
         this.mobius = mobius;
+        this.workspace = workspace;
     }
 
 
@@ -45,7 +53,7 @@ public class VASComputation implements VASOperation {
         //
         //  If α > α0 set p(x) ← p(αx), a ← αa, c ← αc, and α ← 1
         if (lowerBound > polynomial.constant()) {       // missing valueOf Wikipedia!!!
-            polynomial = polynomial.apply(Polynomial.of(new double[] { 0, lowerBound }));
+            polynomial = workspace.set(polynomial).compose(Polynomial.of(new double[] { 0, lowerBound })).freeze();
             mobius = mobius.composeAlphaX(lowerBound);
             lowerBound = 1;
         }
@@ -55,9 +63,7 @@ public class VASComputation implements VASOperation {
         //
         // If α ≥ 1, set p(x) ← p(x + α), b ← αa + b, and d ← αc + d
         if (lowerBound >= 1) {
-            Polynomial composed = Polynomial.of(new double[]{lowerBound, 1});
-
-            polynomial = polynomial.apply(composed);
+            polynomial = workspace.set(polynomial).taylorShift(lowerBound).freeze();
             mobius = mobius.composeXPlusK(lowerBound);
 
             // if the constant portion of the resulting polynomial is now zero, we have found one of the roots and
@@ -88,7 +94,7 @@ public class VASComputation implements VASOperation {
         }
 
         // Compute p1(x) ← p(x + 1)
-        Polynomial polynomial1 = polynomial.apply(xPlusOne);
+        Polynomial polynomial1 = workspace.set(polynomial).taylorShift(1).freeze();
         // set a1 ← a, b1 ← a + b, c1 ← c, d1 ← c + d
         RealMobiusTransformation mobius1 = mobius.composeXPlusK(1);
 
@@ -120,7 +126,7 @@ public class VASComputation implements VASOperation {
         //  If s2 > 1
         if (sign2 > 1) {
             //  compute p2(x) ← (x + 1)^m * p(1/(x+1)), where m is the degree of p
-            polynomial2 = polynomial.budansTheorem();
+            polynomial2 = workspace.set(polynomial).budansTheorem().freeze();
 
             // If p2(0) = 0
             if (polynomial2.constant() == 0) {
@@ -153,7 +159,7 @@ public class VASComputation implements VASOperation {
         if (sign1 == 1) // If s1 = 1 add intrv(a1, b1, c1, d1) to rootlist
             roots.add(intervalOf(mobius1));
         else
-            operations.add(new VASComputation(polynomial1, mobius1));
+            operations.add(new VASComputation(polynomial1, mobius1, workspace));
 
         if (sign2 == 0) // If s2 = 0 goto Step 2
             return buildResult(roots, operations);
@@ -161,7 +167,7 @@ public class VASComputation implements VASOperation {
         if (sign2 == 1) // If s2 = 1 add intrv(a2, b2, c2, d2) to rootlist
             roots.add(intervalOf(mobius2));
         else
-            operations.add(new VASComputation(polynomial2, mobius2));
+            operations.add(new VASComputation(polynomial2, mobius2, workspace));
 
         return buildResult(roots, operations);
     }
@@ -0,0 +1,53 @@
+package com.hstclair.dsp;
+
+/**
+ * Measures the per-sample cost of filtering silence after an impulse.  Without protection the decaying tail passes
+ * through the subnormal range and the cost per block jumps; with protection it should stay flat.
+ *
+ * Run with: java com.hstclair.dsp.DenormalBenchmark
+ *
+ * @author hstclair
+ * @since 10/17/26 3:50 PM
+ */
+public class DenormalBenchmark {
+
+    static final int BLOCK = 4096;
+    static final int BLOCKS = 400;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, .001);
+
+        double[] impulse = new double[BLOCK];
+        double[] silence = new double[BLOCK];
+        double[] output = new double[BLOCK];
+
+        impulse[0] = 1;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (DenormalProtection protection : DenormalProtection.values()) {
+                BiquadCascadeFilter filter = new BiquadCascadeFilter(cascade);
+                filter.setDenormalProtection(protection);
+
+                filter.process(impulse, 0, output, 0, BLOCK);
+
+                long fastest = Long.MAX_VALUE;
+                long slowest = 0;
+
+                for (int block = 0; block < BLOCKS; block++) {
+                    long start = System.nanoTime();
+
+                    filter.process(silence, 0, output, 0, BLOCK);
+
+                    long elapsed = System.nanoTime() - start;
+
+                    fastest = Math.min(fastest, elapsed);
+                    slowest = Math.max(slowest, elapsed);
+                }
+
+                System.out.printf("round %d %-14s fastest %6.2f ns/sample, slowest %6.2f ns/sample%n", round, protection,
+                        fastest / (double) BLOCK, slowest / (double) BLOCK);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hstclair.dsp;
+
+import java.util.Random;
+
+/**
+ * Compares the per-sample cost of the generic runtimes with kernels generated by {@link KernelCompiler} for the same
+ * designs.
+ *
+ * Run with: java com.hstclair.dsp.KernelBenchmark
+ *
+ * @author hstclair
+ * @since 10/18/26 1:50 AM
+ */
+public class KernelBenchmark {
+
+    static final int BLOCK = 4096;
+    static final int BLOCKS = 2000;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+        double[] input = new double[BLOCK];
+        double[] output = new double[BLOCK];
+
+        Random random = new Random(1);
+
+        for (int index = 0; index < BLOCK; index++)
+            input[index] = random.nextGaussian();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int poles = 2; poles <= 12; poles += 2) {
+                BiquadCascade cascade = calculator.computeLowpassCascade(poles, .1);
+
+                double generic = measure(new BiquadCascadeFilter(cascade), input, output);
+                double compiled = measure(KernelCompiler.compile(cascade), input, output);
+
+                System.out.printf("round %d cascade %2d poles   generic %6.2f ns/sample, compiled %6.2f ns/sample (%.2fx)%n",
+                        round, poles, generic, compiled, generic / compiled);
+            }
+
+            for (int poles = 2; poles <= 8; poles += 2) {
+                RecursionCoefficients coefficients = calculator.computeLowpassCoefficients(poles, .1);
+
+                double generic = measure(new IirFilter(coefficients), input, output);
+                double compiled = measure(KernelCompiler.compile(coefficients), input, output);
+
+                System.out.printf("round %d direct  %2d poles   generic %6.2f ns/sample, compiled %6.2f ns/sample (%.2fx)%n",
+                        round, poles, generic, compiled, generic / compiled);
+            }
+        }
+    }
+
+    static double measure(DigitalFilter filter, double[] input, double[] output) {
+        long start = System.nanoTime();
+
+        for (int block = 0; block < BLOCKS; block++)
+            filter.process(input, 0, output, 0, BLOCK);
+
+        return (System.nanoTime() - start) / (double) BLOCKS / BLOCK;
+    }
+}
@@ -0,0 +1,58 @@
+package com.hstclair.dsp;
+
+/**
+ * Compares decimating with {@link Decimator}, which computes only the samples it keeps, against running the same
+ * anti-alias cascade at the full rate with {@link BiquadCascadeFilter} and discarding the unwanted samples.
+ *
+ * Run with: java com.hstclair.dsp.ResamplingBenchmark
+ *
+ * @author hstclair
+ * @since 10/17/26 11:10 PM
+ */
+public class ResamplingBenchmark {
+
+    static final int BLOCK = 1 << 16;
+    static final int BLOCKS = 200;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        double[] input = new double[BLOCK];
+        double[] filtered = new double[BLOCK];
+        double[] output = new double[BLOCK];
+
+        for (int index = 0; index < BLOCK; index++)
+            input[index] = Math.sin(index * .01) + Math.random() - .5;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int factor : new int[] { 2, 4, 8, 16 }) {
+                BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(RationalResampler.DEFAULT_POLES, RationalResampler.antiAliasCutoff(1, factor));
+
+                BiquadCascadeFilter filter = new BiquadCascadeFilter(cascade);
+                Decimator decimator = new Decimator(factor, cascade);
+
+                long start = System.nanoTime();
+
+                for (int block = 0; block < BLOCKS; block++) {
+                    filter.process(input, 0, filtered, 0, BLOCK);
+
+                    for (int index = factor - 1, count = 0; index < BLOCK; index += factor)
+                        output[count++] = filtered[index];
+                }
+
+                long filterThenDrop = System.nanoTime() - start;
+
+                start = System.nanoTime();
+
+                for (int block = 0; block < BLOCKS; block++)
+                    decimator.process(input, 0, BLOCK, output, 0);
+
+                long polyphase = System.nanoTime() - start;
+
+                double samples = (double) BLOCK * BLOCKS;
+
+                System.out.printf("round %d factor %2d  filter-then-drop %6.2f ns/sample, decimator %6.2f ns/sample, speedup %5.2fx%n",
+                        round, factor, filterThenDrop / samples, polyphase / samples, filterThenDrop / (double) polyphase);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 11:10 AM
+ */
+public class TestBiquadCascadeFilter {
+
+    void assertMatchesDirectForm(RecursionCoefficients coefficients, BiquadCascade cascade) {
+        DigitalFilter directForm = new IirFilter(coefficients);
+        DigitalFilter instance = new BiquadCascadeFilter(cascade);
+
+        for (int index = 0; index < 200; index++) {
+            double sample = index == 0 ? 1 : 0;
+
+            assertEquals(directForm.process(sample), instance.process(sample), 1e-12);
+        }
+    }
+
+    @Test
+    public void testLowpassCascadeMatchesDirectForm() {
+        ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+        assertMatchesDirectForm(calculator.computeLowpassCoefficients(6, .1), calculator.computeLowpassCascade(6, .1));
+    }
+
+    @Test
+    public void testHighpassCascadeMatchesDirectForm() {
+        ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+        assertMatchesDirectForm(calculator.computeHighpassCoefficients(4, .2), calculator.computeHighpassCascade(4, .2));
+    }
+
+    @Test
+    public void testChebyshevCascadeMatchesDirectForm() {
+        ButterworthCoefficientCalculator calculator = new ChebyshevCoefficientCalculator(.5);
+
+        assertMatchesDirectForm(calculator.computeLowpassCoefficients(4, .1), calculator.computeLowpassCascade(4, .1));
+    }
+
+    @Test
+    public void testHighOrderCascadeKeepsUnityGainAtDC() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(24, .05);
+
+        DigitalFilter instance = new BiquadCascadeFilter(cascade);
+
+        double output = 0;
+
+        for (int count = 0; count < 5000; count++)
+            output = instance.process(1);
+
+        assertEquals(12, cascade.sections());
+        assertEquals(1, output, 1e-9);
+    }
+
+    @Test
+    public void testBlockProcessingMatchesSampleProcessing() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, .1);
+
+        double[] input = new double[50];
+
+        for (int index = 0; index < input.length; index++)
+            input[index] = Math.cos(index * .7);
+
+        double[] expected = new double[input.length];
+        double[] output = new double[input.length];
+
+        DigitalFilter sampleFilter = new BiquadCascadeFilter(cascade);
+
+        for (int index = 0; index < input.length; index++)
+            expected[index] = sampleFilter.process(input[index]);
+
+        DigitalFilter instance = new BiquadCascadeFilter(cascade);
+
+        instance.process(input, 0, output, 0, 17);
+        instance.process(input, 17, output, 17, input.length - 17);
+
+        assertArrayEquals(expected, output, 0);
+    }
+
+    boolean hasSubnormalState(double[] state) {
+        for (double value : state)
+            if (value != 0 && Math.abs(value) < Double.MIN_NORMAL)
+                return true;
+
+        return false;
+    }
+
+    boolean reachesSubnormalState(DenormalProtection protection) {
+        BiquadCascadeFilter instance = new BiquadCascadeFilter(new ButterworthCoefficientCalculator().computeLowpassCascade(4, .01));
+        instance.setDenormalProtection(protection);
+
+        double[] block = new double[1000];
+
+        block[0] = 1;
+
+        for (int count = 0; count < 200; count++) {
+            instance.process(block, 0, block, 0, block.length);
+
+            if (hasSubnormalState(instance.state))
+                return true;
+
+            Arrays.fill(block, 0);
+        }
+
+        return false;
+    }
+
+    @Test
+    public void testDenormalProtection() {
+        assertTrue(reachesSubnormalState(DenormalProtection.NONE));
+        assertFalse(reachesSubnormalState(DenormalProtection.DC_OFFSET));
+        assertFalse(reachesSubnormalState(DenormalProtection.FLUSH_TO_ZERO));
+    }
+}
@@ -0,0 +1,85 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 8:20 PM
+ */
+public class TestCoefficientTable {
+
+    @Test
+    public void testGridPointsMatchExactDesign() {
+        CoefficientTable table = new CoefficientTable(FilterType.LOWPASS, 4, 0, .001, .45, 64);
+
+        double[] coefficients = new double[table.sections() * BiquadCascade.STRIDE];
+
+        for (int point = 0; point < table.getPoints(); point += 7) {
+            double cutoff = table.gridCutoff(point);
+
+            table.interpolate(cutoff, coefficients);
+
+            assertArrayEquals(table.exact(cutoff).coefficients, coefficients, 1e-9);
+        }
+    }
+
+    @Test
+    public void testErrorShrinksWithResolution() {
+        double coarse = new CoefficientTable(FilterType.HIGHPASS, 6, .5, .005, .4, 32).maxInterpolationError(4);
+        double fine = new CoefficientTable(FilterType.HIGHPASS, 6, .5, .005, .4, 256).maxInterpolationError(4);
+
+        assertTrue(fine < coarse / 10);
+        assertTrue(fine < 1e-3);
+    }
+
+    @Test
+    public void testInterpolatedSectionsHaveUnityGain() {
+        CoefficientTable table = new CoefficientTable(FilterType.LOWPASS, 8, 0, .01, .3, 16);
+
+        BiquadCascade cascade = table.getCascade(.0567);
+
+        for (int section = 0; section < cascade.sections(); section++) {
+            double[] c = cascade.getSection(section);
+
+            assertEquals(1, (c[0] + c[1] + c[2]) / (1 - c[3] - c[4]), 1e-12);
+        }
+
+        assertTrue(cascade.maxPoleRadius() < 1);
+    }
+
+    @Test
+    public void testUpdateRetunesRunningFilter() {
+        CoefficientTable table = new CoefficientTable(FilterType.LOWPASS, 4, 0, .01, .4, 512);
+
+        BiquadCascadeFilter filter = new BiquadCascadeFilter(table.getCascade(.1));
+        BiquadCascadeFilter reference = new BiquadCascadeFilter(new FilterSpec(FilterType.LOWPASS, 4, .02, 0).designCascade());
+
+        table.update(filter, .02);
+
+        for (int index = 0; index < 500; index++) {
+            double sample = Math.sin(index * .3);
+
+            assertEquals(reference.process(sample), filter.process(sample), 1e-4);
+        }
+    }
+
+    @Test
+    public void testMemoryBudget() {
+        CoefficientTable table = CoefficientTable.withMemoryBudget(FilterType.LOWPASS, 4, 0, .01, .4, 10000);
+
+        assertTrue(table.memoryBytes() <= 10000);
+        assertEquals(10000 / (2 * BiquadCascade.STRIDE * 8), table.getPoints());
+
+        try {
+            CoefficientTable.withMemoryBudget(FilterType.LOWPASS, 4, 0, .01, .4, 100);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
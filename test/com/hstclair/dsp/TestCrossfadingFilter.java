@@ -0,0 +1,140 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 7:35 PM
+ */
+public class TestCrossfadingFilter {
+
+    ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+    double[] signal(int length) {
+        double[] samples = new double[length];
+
+        for (int index = 0; index < length; index++)
+            samples[index] = 1 + Math.sin(index * .03) + .3 * Math.sin(index * 1.7);
+
+        return samples;
+    }
+
+    @Test
+    public void testMatchesWrappedFilterWithoutSwap() {
+        BiquadCascade cascade = calculator.computeLowpassCascade(4, .1);
+
+        double[] signal = signal(1000);
+        double[] expected = new double[signal.length];
+
+        new BiquadCascadeFilter(cascade).process(signal, 0, expected, 0, signal.length);
+
+        new CrossfadingFilter(cascade, 64).process(signal, 0, signal, 0, signal.length);
+
+        assertArrayEquals(expected, signal, 0);
+    }
+
+    @Test
+    public void testConvergesToNewDesignAfterFade() {
+        BiquadCascade first = calculator.computeLowpassCascade(4, .1);
+        BiquadCascade second = calculator.computeLowpassCascade(4, .02);
+
+        double[] signal = signal(2000);
+
+        CrossfadingFilter filter = new CrossfadingFilter(first, 300);
+
+        double[] output = new double[signal.length];
+
+        filter.process(signal, 0, output, 0, 500);
+
+        filter.setCascade(second);
+
+        filter.process(signal, 500, output, 500, 1500);
+
+        assertFalse(filter.isFading());
+
+        // the new design runs from the steady state of the last sample before the swap
+        BiquadCascadeFilter reference = new BiquadCascadeFilter(second);
+        reference.setSteadyState(signal[499]);
+
+        double[] expected = new double[1500];
+        reference.process(signal, 500, expected, 0, 1500);
+
+        for (int index = 300; index < 1500; index++)
+            assertEquals(expected[index], output[500 + index], 1e-12);
+    }
+
+    @Test
+    public void testFadeIsContinuous() {
+        CrossfadingFilter filter = new CrossfadingFilter(calculator.computeLowpassCascade(2, .2), 256);
+
+        filter.setSteadyState(1);
+
+        double[] samples = new double[1000];
+
+        for (int index = 0; index < samples.length; index++)
+            samples[index] = 1;
+
+        filter.process(samples, 0, samples, 0, 100);
+
+        filter.setCoefficients(calculator.computeLowpassCoefficients(6, .01));
+
+        filter.process(samples, 100, samples, 100, 900);
+
+        // both designs have unity gain and start from steady state, so a DC input passes through untouched
+        for (double sample : samples)
+            assertEquals(1, sample, 1e-6);
+    }
+
+    @Test
+    public void testSampleAndBlockAgree() {
+        BiquadCascade first = calculator.computeHighpassCascade(4, .1);
+        BiquadCascade second = calculator.computeLowpassCascade(4, .1);
+
+        double[] signal = signal(1200);
+
+        CrossfadingFilter blockFilter = new CrossfadingFilter(first, 500);
+        CrossfadingFilter sampleFilter = new CrossfadingFilter(first, 500);
+
+        double[] blocks = new double[signal.length];
+
+        blockFilter.process(signal, 0, blocks, 0, 200);
+        blockFilter.setCascade(second);
+        blockFilter.process(signal, 200, blocks, 200, 1000);
+
+        for (int index = 0; index < signal.length; index++) {
+            if (index == 200) {
+                sampleFilter.setCascade(second);
+                assertTrue(sampleFilter.pending.get() != null);
+            }
+
+            assertEquals(blocks[index], sampleFilter.process(signal[index]), 1e-12);
+        }
+    }
+
+    @Test
+    public void testSwapDuringFadeWaitsForCompletion() {
+        CrossfadingFilter filter = new CrossfadingFilter(calculator.computeLowpassCascade(2, .1), 100);
+
+        filter.setCascade(calculator.computeLowpassCascade(2, .2));
+        filter.process(0);
+
+        assertTrue(filter.isFading());
+
+        filter.setCascade(calculator.computeLowpassCascade(2, .3));
+
+        for (int index = 1; index < 100; index++)
+            filter.process(0);
+
+        assertFalse(filter.isFading());
+        assertTrue(filter.pending.get() != null);
+
+        filter.process(0);
+
+        assertTrue(filter.isFading());
+    }
+}
@@ -0,0 +1,86 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 6:50 PM
+ */
+public class TestDoubleRingBuffer {
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new DoubleRingBuffer(5).capacity());
+        assertEquals(8, new DoubleRingBuffer(8).capacity());
+    }
+
+    @Test
+    public void testOfferStopsWhenFull() {
+        DoubleRingBuffer instance = new DoubleRingBuffer(4);
+
+        assertEquals(4, instance.offer(new double[] { 1, 2, 3, 4, 5, 6 }, 0, 6, 0));
+        assertEquals(0, instance.offer(new double[] { 7 }, 0, 1, 0));
+        assertEquals(4, instance.size());
+    }
+
+    @Test
+    public void testSamplesAndTimestampsWrapAround() {
+        DoubleRingBuffer instance = new DoubleRingBuffer(4);
+
+        double[] result = new double[4];
+        long[] stamps = new long[4];
+
+        instance.offer(new double[] { 1, 2, 3 }, 0, 3, 10);
+        assertEquals(2, instance.poll(result, 0, 2, stamps));
+
+        instance.offer(new double[] { 4, 5, 6 }, 0, 3, 20);
+        assertEquals(4, instance.poll(result, 0, 4, stamps));
+
+        assertArrayEquals(new double[] { 3, 4, 5, 6 }, result, 0);
+        assertArrayEquals(new long[] { 10, 20, 20, 20 }, stamps);
+        assertEquals(0, instance.poll(result, 0, 4, null));
+    }
+
+    @Test
+    public void testConcurrentProducerAndConsumerPreserveOrder() throws InterruptedException {
+        DoubleRingBuffer instance = new DoubleRingBuffer(64);
+
+        int total = 200000;
+
+        Thread producer = new Thread(() -> {
+            double[] chunk = new double[7];
+            int next = 0;
+
+            while (next < total) {
+                int count = Math.min(chunk.length, total - next);
+
+                for (int index = 0; index < count; index++)
+                    chunk[index] = next + index;
+
+                int offset = 0;
+
+                while (offset < count)
+                    offset += instance.offer(chunk, offset, count - offset, 0);
+
+                next += count;
+            }
+        });
+
+        producer.start();
+
+        double[] chunk = new double[11];
+        int expected = 0;
+
+        while (expected < total) {
+            int count = instance.poll(chunk, 0, chunk.length, null);
+
+            for (int index = 0; index < count; index++)
+                assertEquals((double) expected++, chunk[index]);
+        }
+
+        producer.join();
+    }
+}
@@ -0,0 +1,144 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 4:40 PM
+ */
+public class TestFileFilterPipeline {
+
+    static final int FRAMES = 5000;
+
+    double sample(int frame, int channel) {
+        return Math.round(8000 * Math.sin(frame * .01 * (channel + 1)) + 3000 * Math.sin(frame * 1.3));
+    }
+
+    void verify(SampleFormat format, ByteOrder byteOrder, int channels, double tolerance) throws IOException {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(4, .05);
+
+        Path input = Files.createTempFile("pipeline", ".raw");
+        Path output = Files.createTempFile("pipeline", ".out");
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(FRAMES * channels * format.bytes()).order(byteOrder);
+
+            for (int frame = 0; frame < FRAMES; frame++)
+                for (int channel = 0; channel < channels; channel++)
+                    format.write(buffer, sample(frame, channel));
+
+            Files.write(input, buffer.array());
+
+            DigitalFilter[] filters = new DigitalFilter[channels];
+
+            for (int channel = 0; channel < channels; channel++)
+                filters[channel] = new BiquadCascadeFilter(cascade);
+
+            FileFilterPipeline instance = new FileFilterPipeline(format, byteOrder, 333, filters);
+
+            // use several small windows so that state must carry across both chunks and windows
+            instance.windowBytes = 4096;
+
+            assertEquals(FRAMES, instance.filter(input, output));
+
+            ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(output)).order(byteOrder);
+
+            assertEquals(buffer.capacity(), result.capacity());
+
+            DigitalFilter[] references = new DigitalFilter[channels];
+
+            for (int channel = 0; channel < channels; channel++)
+                references[channel] = new BiquadCascadeFilter(cascade);
+
+            for (int frame = 0; frame < FRAMES; frame++)
+                for (int channel = 0; channel < channels; channel++)
+                    assertEquals(references[channel].process(sample(frame, channel)), format.read(result), tolerance);
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    @Test
+    public void testFloat64LittleEndian() throws IOException {
+        verify(SampleFormat.FLOAT64, ByteOrder.LITTLE_ENDIAN, 1, 0);
+    }
+
+    @Test
+    public void testInt16BigEndianStereo() throws IOException {
+        verify(SampleFormat.INT16, ByteOrder.BIG_ENDIAN, 2, .5);
+    }
+
+    @Test
+    public void testInt32LittleEndian() throws IOException {
+        verify(SampleFormat.INT32, ByteOrder.LITTLE_ENDIAN, 3, .5);
+    }
+
+    @Test
+    public void testFloat32BigEndian() throws IOException {
+        verify(SampleFormat.FLOAT32, ByteOrder.BIG_ENDIAN, 1, 1e-3);
+    }
+
+    @Test
+    public void testEachFileStartsFromSilence() throws IOException {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(4, .05);
+
+        Path input = Files.createTempFile("pipeline", ".raw");
+        Path first = Files.createTempFile("pipeline", ".out");
+        Path second = Files.createTempFile("pipeline", ".out");
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(FRAMES * SampleFormat.FLOAT64.bytes());
+
+            for (int frame = 0; frame < FRAMES; frame++)
+                SampleFormat.FLOAT64.write(buffer, sample(frame, 0));
+
+            Files.write(input, buffer.array());
+
+            FileFilterPipeline instance = new FileFilterPipeline(SampleFormat.FLOAT64, ByteOrder.BIG_ENDIAN,
+                    new BiquadCascadeFilter(cascade));
+
+            instance.filter(input, first);
+            instance.filter(input, second);
+
+            assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    @Test
+    public void testRejectsFilteringInPlace() throws IOException {
+        Path file = Files.createTempFile("pipeline", ".raw");
+
+        try {
+            Files.write(file, new byte[64]);
+
+            FileFilterPipeline instance = new FileFilterPipeline(SampleFormat.FLOAT64, ByteOrder.BIG_ENDIAN,
+                    new BiquadCascadeFilter(new ButterworthCoefficientCalculator().computeLowpassCascade(2, .1)));
+
+            try {
+                instance.filter(file, file);
+                fail();
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+
+            assertEquals(64, Files.size(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 9:45 PM
+ */
+public class TestFilterBank {
+
+    double[] sine(double frequency, int length) {
+        double[] samples = new double[length];
+
+        for (int index = 0; index < length; index++)
+            samples[index] = Math.sin(2 * Math.PI * frequency * index);
+
+        return samples;
+    }
+
+    /**
+     * run the signal, then measure only its second half so that the start-up transients are excluded
+     */
+    FilterBank measure(FilterBank bank, double[] signal) {
+        bank.process(signal, 0, signal.length / 2);
+        bank.resetAccumulators();
+        bank.process(signal, signal.length / 2, signal.length - signal.length / 2);
+
+        return bank;
+    }
+
+    @Test
+    public void testThirdOctaveBands() {
+        FilterBank bank = FilterBank.thirdOctave(48000, 25, 16000, false);
+
+        assertEquals(29, bank.bands());
+        assertEquals(1000 / 48000., bank.getCenter(16), 1e-12);
+        assertEquals(bank.getUpperEdge(3), bank.getLowerEdge(4), 1e-15);
+    }
+
+    @Test
+    public void testSineAtCenterLandsInItsBand() {
+        FilterBank bank = new FilterBank(3, .001, .2, 6, false);
+
+        int target = 12;
+
+        measure(bank, sine(bank.getCenter(target), 40000));
+
+        assertEquals(Math.sqrt(.5), bank.getRms(target), .01);
+
+        for (int band = 0; band < bank.bands(); band++)
+            if (Math.abs(band - target) > 2)
+                assertTrue(bank.getRms(band) < .05);
+    }
+
+    @Test
+    public void testDecimatedBandsMatchFullRate() {
+        FilterBank full = new FilterBank(1, .0005, .2, 6, false);
+        FilterBank decimated = new FilterBank(1, .0005, .2, 6, true);
+
+        assertEquals(0, decimated.getLevel(decimated.bands() - 1));
+        assertTrue(decimated.getLevel(0) >= 6);
+
+        double[] signal = new double[80000];
+
+        // a tone in each of the lowest three octaves plus one near the top of the spectrum
+        for (int band : new int[] { 0, 1, 2 }) {
+            double[] tone = sine(full.getCenter(band), signal.length);
+
+            for (int index = 0; index < signal.length; index++)
+                signal[index] += tone[index];
+        }
+
+        double[] high = sine(.3, signal.length);
+
+        for (int index = 0; index < signal.length; index++)
+            signal[index] += high[index];
+
+        measure(full, signal);
+        measure(decimated, signal);
+
+        for (int band = 0; band < full.bands(); band++)
+            assertEquals(full.getRms(band), decimated.getRms(band), .02);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 1:30 PM
+ */
+public class TestFilterDesignBatch {
+
+    List<FilterSpec> grid() {
+        List<FilterSpec> specs = new ArrayList<>();
+
+        for (int poles = 2; poles <= 8; poles += 2)
+            for (int cutoff = 1; cutoff < 40; cutoff++) {
+                specs.add(FilterSpec.butterworth(FilterType.LOWPASS, poles, cutoff / 100d));
+                specs.add(FilterSpec.chebyshev(FilterType.HIGHPASS, poles, cutoff / 100d, .5));
+            }
+
+        return specs;
+    }
+
+    @Test
+    public void testResultsAreInSpecOrder() {
+        List<FilterSpec> specs = grid();
+
+        try (FilterDesignBatch instance = new FilterDesignBatch(4)) {
+            RecursionCoefficients[] results = instance.designCoefficients(specs);
+
+            assertEquals(specs.size(), results.length);
+
+            for (int index = 0; index < results.length; index++) {
+                RecursionCoefficients expected = specs.get(index).designCoefficients();
+
+                assertArrayEquals(expected.a, results[index].a, 0);
+                assertArrayEquals(expected.b, results[index].b, 0);
+            }
+        }
+    }
+
+    @Test
+    public void testPackedResultsMatchIndividualDesigns() {
+        List<FilterSpec> specs = grid();
+
+        PackedRecursionCoefficients results = new FilterDesignBatch().designPacked(specs);
+
+        assertEquals(specs.size(), results.size());
+
+        for (int index = 0; index < results.size(); index++) {
+            RecursionCoefficients expected = specs.get(index).designCoefficients();
+
+            assertEquals(specs.get(index).getPoles(), results.order(index));
+            assertArrayEquals(expected.a, results.getA(index), 0);
+            assertArrayEquals(expected.b, results.getB(index), 0);
+        }
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertEquals(0, new FilterDesignBatch().designCascades(new ArrayList<>()).length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 12:55 PM
+ */
+public class TestFilterDesignCache {
+
+    @Test
+    public void testRepeatedLookupReturnsSharedDesign() {
+        FilterDesignCache instance = new FilterDesignCache(4);
+
+        RecursionCoefficients first = instance.getCoefficients(FilterSpec.butterworth(FilterType.LOWPASS, 4, .1));
+        RecursionCoefficients second = instance.getCoefficients(FilterSpec.butterworth(FilterType.LOWPASS, 4, .1));
+
+        assertSame(first, second);
+        assertEquals(1, instance.getMisses());
+        assertEquals(1, instance.getHits());
+    }
+
+    @Test
+    public void testCachedDesignMatchesCalculator() {
+        FilterDesignCache instance = new FilterDesignCache(4);
+
+        RecursionCoefficients expected = new ChebyshevCoefficientCalculator(.5).computeHighpassCoefficients(4, .2);
+        RecursionCoefficients result = instance.getCoefficients(FilterSpec.chebyshev(FilterType.HIGHPASS, 4, .2, .5));
+
+        assertArrayEquals(expected.a, result.a, 0);
+        assertArrayEquals(expected.b, result.b, 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDesignIsEvicted() {
+        FilterDesignCache instance = new FilterDesignCache(2);
+
+        FilterSpec first = FilterSpec.butterworth(FilterType.LOWPASS, 2, .1);
+        FilterSpec second = FilterSpec.butterworth(FilterType.LOWPASS, 2, .2);
+        FilterSpec third = FilterSpec.butterworth(FilterType.LOWPASS, 2, .3);
+
+        BiquadCascade original = instance.getCascade(first);
+        instance.getCascade(second);
+        instance.getCascade(first);
+        instance.getCascade(third);
+
+        assertEquals(2, instance.size());
+        assertEquals(1, instance.getEvictions());
+
+        // first was used more recently than second, so it survives
+        assertSame(original, instance.getCascade(first));
+        assertEquals(3, instance.getMisses());
+
+        instance.getCascade(second);
+
+        assertEquals(4, instance.getMisses());
+    }
+
+    @Test
+    public void testSpecsDifferingOnlyInRippleAreDistinct() {
+        FilterDesignCache instance = new FilterDesignCache(4);
+
+        BiquadCascade butterworth = instance.getCascade(FilterSpec.butterworth(FilterType.LOWPASS, 4, .1));
+        BiquadCascade chebyshev = instance.getCascade(FilterSpec.chebyshev(FilterType.LOWPASS, 4, .1, .5));
+
+        assertNotSame(butterworth, chebyshev);
+        assertEquals(2, instance.getMisses());
+    }
+}
@@ -0,0 +1,78 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 2:30 PM
+ */
+public class TestFixedPointFilter {
+
+    @Test
+    public void testQ15CascadeTracksDoubleDesign() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(4, .1);
+
+        FixedPointFilter instance = new FixedPointFilter(QuantizedCoefficients.of(cascade, 14), true);
+        DigitalFilter reference = new BiquadCascadeFilter(cascade);
+
+        short[] samples = new short[500];
+
+        for (int index = 0; index < samples.length; index++)
+            samples[index] = (short) Math.round(16000 * Math.sin(index * .05));
+
+        short[] output = new short[samples.length];
+
+        instance.process(samples, 0, output, 0, samples.length);
+
+        for (int index = 0; index < samples.length; index++)
+            assertEquals(reference.process(samples[index]), output[index], 8);
+    }
+
+    @Test
+    public void testQ31DirectFormTracksDoubleDesign() {
+        QuantizedCoefficients coefficients = QuantizedCoefficients.of(new ButterworthCoefficientCalculator().computeLowpassCoefficients(2, .1), 29);
+
+        assertTrue(coefficients.maxResponseError(1000) < 1e-6);
+    }
+
+    @Test
+    public void testCoefficientErrorIsWithinHalfAnLsb() {
+        QuantizedCoefficients instance = QuantizedCoefficients.of(new ButterworthCoefficientCalculator().computeLowpassCascade(6, .2), 14);
+
+        assertTrue(instance.maxCoefficientError() <= Math.scalb(1d, -15));
+    }
+
+    @Test
+    public void testSaturation() {
+        // a one pole filter with a gain of four
+        RecursionCoefficients coefficients = new LowPassRecursionCoefficients(1);
+        coefficients.a[0] = 4;
+        coefficients.a[1] = 0;
+
+        short[] samples = { 10000, -10000 };
+        short[] saturated = new short[2];
+        short[] wrapped = new short[2];
+
+        new FixedPointFilter(QuantizedCoefficients.of(coefficients, 12), true).process(samples, 0, saturated, 0, 2);
+        new FixedPointFilter(QuantizedCoefficients.of(coefficients, 12), false).process(samples, 0, wrapped, 0, 2);
+
+        assertEquals(Short.MAX_VALUE, saturated[0]);
+        assertEquals(Short.MIN_VALUE, saturated[1]);
+        assertEquals((short) 40000, wrapped[0]);
+        assertEquals((short) -40000, wrapped[1]);
+    }
+
+    @Test
+    public void testCoefficientTooLargeForFormatIsRejected() {
+        try {
+            QuantizedCoefficients.of(new ButterworthCoefficientCalculator().computeLowpassCoefficients(8, .1), 30);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 3:10 PM
+ */
+public class TestFloatBiquadCascadeFilter {
+
+    @Test
+    public void testTracksDoublePrecisionCascade() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(6, .1);
+
+        float[] samples = new float[400];
+
+        for (int index = 0; index < samples.length; index++)
+            samples[index] = (float) Math.sin(index * .1);
+
+        float[] output = new float[samples.length];
+
+        new FloatBiquadCascadeFilter(cascade).process(samples, 0, output, 0, samples.length);
+
+        DigitalFilter reference = new BiquadCascadeFilter(cascade);
+
+        for (int index = 0; index < samples.length; index++)
+            assertEquals(reference.process(samples[index]), output[index], 1e-5);
+    }
+
+    @Test
+    public void testInterleavedChannelsMatchSingleChannel() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeHighpassCascade(4, .2);
+
+        int channels = 9;
+        int frames = 100;
+
+        float[] interleaved = new float[channels * frames];
+
+        for (int index = 0; index < interleaved.length; index++)
+            interleaved[index] = (float) Math.cos(index * .37);
+
+        float[] output = new float[interleaved.length];
+
+        new FloatBiquadCascadeFilter(cascade, channels).processInterleaved(interleaved, 0, output, 0, frames);
+
+        for (int channel = 0; channel < channels; channel++) {
+            float[] planar = new float[frames];
+
+            for (int frame = 0; frame < frames; frame++)
+                planar[frame] = interleaved[frame * channels + channel];
+
+            new FloatBiquadCascadeFilter(cascade).process(planar, 0, planar, 0, frames);
+
+            for (int frame = 0; frame < frames; frame++)
+                assertEquals(planar[frame], output[frame * channels + channel], 0);
+        }
+    }
+
+    @Test
+    public void testDesignWithPolesNearUnitCircleIsRefused() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, .00001);
+
+        assertTrue(cascade.maxPoleRadius() > FloatBiquadCascadeFilter.DEFAULT_MAX_POLE_RADIUS);
+
+        try {
+            new FloatBiquadCascadeFilter(cascade);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
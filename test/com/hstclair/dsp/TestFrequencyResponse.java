@@ -0,0 +1,78 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 11:50 PM
+ */
+public class TestFrequencyResponse {
+
+    ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+    @Test
+    public void testButterworthMagnitude() {
+        FrequencyResponse response = FrequencyResponse.of(calculator.computeLowpassCascade(6, .1), new double[] { 0, .1, .5 });
+
+        assertEquals(1, response.getMagnitude()[0], 1e-12);
+        assertEquals(Math.sqrt(.5), response.getMagnitude()[1], 1e-9);
+        assertEquals(0, response.getMagnitude()[2], 1e-12);
+        assertEquals(-3.0103, response.getMagnitudeDb()[1], 1e-4);
+    }
+
+    @Test
+    public void testDirectFormMatchesCascade() {
+        double[] frequencies = FrequencyResponse.linearGrid(501);
+
+        FrequencyResponse direct = FrequencyResponse.of(calculator.computeHighpassCoefficients(4, .15), frequencies);
+        FrequencyResponse cascade = FrequencyResponse.of(calculator.computeHighpassCascade(4, .15), frequencies);
+
+        assertArrayEquals(cascade.getMagnitude(), direct.getMagnitude(), 1e-9);
+
+        // skip DC, where the high pass response is zero and its phase and delay are undefined
+        for (int index = 1; index < frequencies.length; index++) {
+            double difference = Math.IEEEremainder(direct.getPhase()[index] - cascade.getPhase()[index], 2 * Math.PI);
+
+            assertEquals(0, difference, 1e-6);
+            assertEquals(cascade.getGroupDelay()[index], direct.getGroupDelay()[index], 1e-5);
+        }
+    }
+
+    @Test
+    public void testGroupDelayIsPhaseDerivative() {
+        double step = 1e-6;
+        double[] frequencies = new double[] { .02, .02 + step, .08, .08 + step, .3, .3 + step };
+
+        FrequencyResponse response = FrequencyResponse.of(calculator.computeLowpassCascade(4, .1), frequencies);
+
+        for (int index = 0; index < frequencies.length; index += 2) {
+            double change = Math.IEEEremainder(response.getPhase()[index + 1] - response.getPhase()[index], 2 * Math.PI);
+
+            assertEquals(-change / (2 * Math.PI * step), response.getGroupDelay()[index], 1e-3);
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSerial() {
+        double[] frequencies = FrequencyResponse.linearGrid(100001);
+
+        RecursionCoefficients coefficients = new ChebyshevCoefficientCalculator(.5).computeLowpassCoefficients(6, .2);
+        BiquadCascade cascade = new ChebyshevCoefficientCalculator(.5).computeLowpassCascade(6, .2);
+
+        FrequencyResponse serial = FrequencyResponse.of(coefficients, frequencies, false);
+        FrequencyResponse parallel = FrequencyResponse.of(coefficients, frequencies, true);
+
+        assertArrayEquals(serial.getMagnitude(), parallel.getMagnitude(), 0);
+        assertArrayEquals(serial.getPhase(), parallel.getPhase(), 0);
+        assertArrayEquals(serial.getGroupDelay(), parallel.getGroupDelay(), 0);
+
+        serial = FrequencyResponse.of(cascade, frequencies, false);
+        parallel = FrequencyResponse.of(cascade, frequencies, true);
+
+        assertArrayEquals(serial.getMagnitude(), parallel.getMagnitude(), 0);
+        assertArrayEquals(serial.getGroupDelay(), parallel.getGroupDelay(), 0);
+    }
+}
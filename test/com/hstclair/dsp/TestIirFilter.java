@@ -0,0 +1,122 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 9:40 AM
+ */
+public class TestIirFilter {
+
+    RecursionCoefficients onePole(double a0, double b1) {
+        RecursionCoefficients coefficients = new LowPassRecursionCoefficients(1);
+
+        coefficients.a[0] = a0;
+        coefficients.a[1] = 0;
+        coefficients.b[1] = b1;
+
+        return coefficients;
+    }
+
+    @Test
+    public void testImpulseResponseOfSinglePole() {
+        double[] input = { 1, 0, 0, 0 };
+        double[] expected = { .5, .25, .125, .0625 };
+        double[] output = new double[input.length];
+
+        IirFilter instance = new IirFilter(onePole(.5, .5));
+
+        instance.process(input, 0, output, 0, input.length);
+
+        assertArrayEquals(expected, output, 0);
+    }
+
+    @Test
+    public void testBlockProcessingMatchesSampleProcessing() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeLowpassCoefficients(4, .1);
+
+        double[] input = new double[64];
+
+        for (int index = 0; index < input.length; index++)
+            input[index] = Math.sin(index * .3) + ((index & 4) == 0 ? 1 : -1);
+
+        IirFilter blockFilter = new IirFilter(coefficients);
+        IirFilter sampleFilter = new IirFilter(coefficients);
+
+        double[] output = new double[input.length];
+
+        blockFilter.process(input, 0, output, 0, 20);
+        blockFilter.process(input, 20, output, 20, input.length - 20);
+
+        for (int index = 0; index < input.length; index++)
+            assertEquals(sampleFilter.process(input[index]), output[index], 0);
+    }
+
+    @Test
+    public void testInPlaceProcessing() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeLowpassCoefficients(2, .1);
+
+        double[] input = { 1, 2, 3, 4, 5, 4, 3, 2, 1 };
+        double[] expected = new double[input.length];
+
+        new IirFilter(coefficients).process(input, 0, expected, 0, input.length);
+        new IirFilter(coefficients).process(input, 0, input, 0, input.length);
+
+        assertArrayEquals(expected, input, 0);
+    }
+
+    @Test
+    public void testLowpassHasUnityGainAtDC() {
+        IirFilter instance = new IirFilter(new ButterworthCoefficientCalculator().computeLowpassCoefficients(4, .1));
+
+        double output = 0;
+
+        for (int count = 0; count < 1000; count++)
+            output = instance.process(1);
+
+        assertEquals(1, output, 1e-9);
+    }
+
+    @Test
+    public void testResetClearsState() {
+        IirFilter instance = new IirFilter(onePole(.5, .5));
+
+        instance.process(1);
+        instance.reset();
+
+        assertEquals(.5, instance.process(1), 0);
+    }
+
+    @Test
+    public void testFlushToZeroClearsDecayedState() {
+        IirFilter instance = new IirFilter(onePole(.5, .5));
+        instance.setDenormalProtection(DenormalProtection.FLUSH_TO_ZERO);
+
+        instance.process(1);
+
+        for (int count = 0; count < 200; count++)
+            instance.process(0);
+
+        assertEquals(0d, instance.state[0]);
+    }
+
+    @Test
+    public void testDCOffsetHoldsStateAboveSubnormalRange() {
+        IirFilter instance = new IirFilter(new ButterworthCoefficientCalculator().computeHighpassCoefficients(2, .1));
+        instance.setDenormalProtection(DenormalProtection.DC_OFFSET);
+
+        double[] block = new double[5000];
+        block[0] = 1;
+
+        instance.process(block, 0, block, 0, block.length);
+
+        for (double value : instance.state)
+            assertTrue(value == 0 || Math.abs(value) >= Double.MIN_NORMAL);
+
+        assertEquals(0, block[block.length - 1], 1e-25);
+    }
+}
@@ -0,0 +1,155 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/18/26 1:40 AM
+ */
+public class TestKernelCompiler {
+
+    ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+    double[] noise(int length) {
+        Random random = new Random(19);
+
+        double[] signal = new double[length];
+
+        for (int index = 0; index < length; index++)
+            signal[index] = random.nextGaussian();
+
+        return signal;
+    }
+
+    @Test
+    public void testCascadeMatchesGenericRuntime() {
+        BiquadCascade cascade = calculator.computeLowpassCascade(8, .07);
+
+        DigitalFilter compiled = KernelCompiler.compile(cascade);
+        DigitalFilter generic = new BiquadCascadeFilter(cascade);
+
+        assertTrue(compiled instanceof CompiledFilter);
+
+        double[] signal = noise(5000);
+
+        double[] expected = new double[signal.length];
+        double[] actual = new double[signal.length];
+
+        // uneven blocks carry the state across calls
+        for (int offset = 0; offset < signal.length; offset += 777) {
+            int length = Math.min(777, signal.length - offset);
+
+            generic.process(signal, offset, expected, offset, length);
+            compiled.process(signal, offset, actual, offset, length);
+        }
+
+        assertArrayEquals(expected, actual, 0);
+    }
+
+    @Test
+    public void testDirectFormMatchesGenericRuntime() {
+        RecursionCoefficients coefficients = calculator.computeHighpassCoefficients(4, .2);
+
+        DigitalFilter compiled = KernelCompiler.compile(coefficients);
+        DigitalFilter generic = new IirFilter(coefficients);
+
+        double[] signal = noise(3000);
+
+        double[] expected = new double[signal.length];
+        double[] actual = new double[signal.length];
+
+        generic.process(signal, 0, expected, 0, signal.length);
+        compiled.process(signal, 0, actual, 0, signal.length);
+
+        assertArrayEquals(expected, actual, 0);
+    }
+
+    @Test
+    public void testSingleSamplesMatchBlocks() {
+        BiquadCascade cascade = calculator.computeHighpassCascade(6, .1);
+
+        DigitalFilter blockFilter = KernelCompiler.compile(cascade);
+        DigitalFilter sampleFilter = KernelCompiler.compile(cascade);
+
+        double[] signal = noise(1000);
+        double[] output = new double[signal.length];
+
+        blockFilter.process(signal, 0, output, 0, signal.length);
+
+        for (int index = 0; index < signal.length; index++)
+            assertEquals(output[index], sampleFilter.process(signal[index]), 0);
+    }
+
+    @Test
+    public void testKernelsAreCachedByDesign() {
+        CompiledFilter first = (CompiledFilter) KernelCompiler.compile(calculator.computeLowpassCascade(4, .123));
+        CompiledFilter second = (CompiledFilter) KernelCompiler.compile(calculator.computeLowpassCascade(4, .123));
+        CompiledFilter other = (CompiledFilter) KernelCompiler.compile(calculator.computeLowpassCascade(4, .124));
+
+        assertSame(first.kernel, second.kernel);
+        assertTrue(first.kernel != other.kernel);
+
+        // filters sharing a kernel keep separate state
+        first.process(1);
+
+        assertEquals(0, second.process(0), 0);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int index = 0; index <= KernelCompiler.CACHE_CAPACITY + 10; index++)
+            KernelCompiler.compile(calculator.computeLowpassCascade(2, .01 + index * 1e-4));
+
+        synchronized (KernelCompiler.cache) {
+            assertEquals(KernelCompiler.CACHE_CAPACITY, KernelCompiler.cache.size());
+        }
+    }
+
+    @Test
+    public void testSteadyStateAndReset() {
+        BiquadCascade cascade = calculator.computeLowpassCascade(6, .05);
+
+        DigitalFilter compiled = KernelCompiler.compile(cascade);
+
+        compiled.setSteadyState(2.5);
+
+        for (int index = 0; index < 100; index++)
+            assertEquals(2.5, compiled.process(2.5), 1e-9);
+
+        compiled.reset();
+
+        assertEquals(cascade.getSection(0)[0] * cascade.getSection(1)[0] * cascade.getSection(2)[0], compiled.process(1), 1e-15);
+    }
+
+    @Test
+    public void testOversizedDesignFallsBack() {
+        BiquadCascade cascade = calculator.computeLowpassCascade(600, .1);
+
+        DigitalFilter filter = KernelCompiler.compile(cascade);
+
+        assertTrue(filter instanceof BiquadCascadeFilter);
+
+        // the design is remembered as too large rather than compiled again
+        assertTrue(KernelCompiler.compile(cascade) instanceof BiquadCascadeFilter);
+    }
+
+    @Test
+    public void testBounds() {
+        DigitalFilter compiled = KernelCompiler.compile(calculator.computeLowpassCascade(2, .1));
+
+        try {
+            compiled.process(new double[10], 5, new double[10], 0, 6);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+}
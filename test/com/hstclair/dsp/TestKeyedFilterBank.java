@@ -0,0 +1,134 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 9:00 PM
+ */
+public class TestKeyedFilterBank {
+
+    BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(4, .05);
+
+    @Test
+    public void testEachKeyMatchesItsOwnFilter() {
+        int keys = 100;
+
+        KeyedFilterBank bank = new KeyedFilterBank(cascade, keys);
+        BiquadCascadeFilter[] filters = new BiquadCascadeFilter[keys];
+
+        for (int key = 0; key < keys; key++)
+            filters[key] = new BiquadCascadeFilter(cascade);
+
+        for (int index = 0; index < 200; index++) {
+            for (int key = 0; key < keys; key++) {
+                // spread the keys over the long range to exercise the hash
+                long sensor = key * 0x9E3779B97F4A7C15L;
+                double sample = Math.sin(index * .1 + key);
+
+                assertEquals(filters[key].process(sample), bank.process(sensor, sample), 0);
+            }
+        }
+
+        assertEquals(keys, bank.size());
+    }
+
+    @Test
+    public void testBlockMatchesSamples() {
+        KeyedFilterBank bank = new KeyedFilterBank(cascade, 10);
+
+        double[] signal = new double[300];
+
+        for (int index = 0; index < signal.length; index++)
+            signal[index] = Math.cos(index * .07);
+
+        double[] block = new double[signal.length];
+
+        bank.process(1, signal, 0, block, 0, signal.length);
+
+        for (int index = 0; index < signal.length; index++)
+            assertEquals(block[index], bank.process(2, signal[index]), 1e-15);
+    }
+
+    @Test
+    public void testSteadyState() {
+        KeyedFilterBank bank = new KeyedFilterBank(cascade, 10);
+
+        bank.setSteadyState(-5, 3);
+
+        assertEquals(3, bank.process(-5, 3), 1e-12);
+    }
+
+    @Test
+    public void testSnapshotRestore() {
+        KeyedFilterBank bank = new KeyedFilterBank(cascade, 1000);
+
+        for (long key = 0; key < 1000; key++)
+            bank.process(key, key);
+
+        ByteBuffer snapshot = ByteBuffer.allocateDirect(bank.snapshotBytes());
+
+        bank.snapshot(snapshot);
+        snapshot.flip();
+
+        double[] expected = new double[1000];
+
+        for (int key = 0; key < 1000; key++)
+            expected[key] = bank.process(key, 1);
+
+        KeyedFilterBank restored = new KeyedFilterBank(cascade, 1000);
+
+        restored.restore(snapshot);
+
+        assertEquals(1000, restored.size());
+
+        for (int key = 0; key < 1000; key++)
+            assertEquals(expected[key], restored.process(key, 1), 0);
+    }
+
+    @Test
+    public void testFullBankRejectsNewKeys() {
+        KeyedFilterBank bank = new KeyedFilterBank(cascade, 3);
+
+        bank.process(1, 0);
+        bank.process(2, 0);
+        bank.process(3, 0);
+
+        try {
+            bank.process(4, 0);
+            fail();
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        assertTrue(bank.contains(3));
+        assertFalse(bank.contains(4));
+
+        bank.clear();
+
+        assertEquals(0, bank.size());
+        assertFalse(bank.contains(1));
+    }
+
+    @Test
+    public void testKeyLimit() {
+        // a fourth order design has two sections, so 48 byte slots; 2^25 of them fit in 2GB
+        assertEquals(3 << 23, KeyedFilterBank.keyLimit(cascade));
+
+        BiquadCascade eighthOrder = new ButterworthCoefficientCalculator().computeLowpassCascade(8, .05);
+
+        try {
+            new KeyedFilterBank(eighthOrder, KeyedFilterBank.keyLimit(eighthOrder) + 1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
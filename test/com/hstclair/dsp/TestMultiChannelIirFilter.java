@@ -0,0 +1,97 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 11:55 AM
+ */
+public class TestMultiChannelIirFilter {
+
+    static final int CHANNELS = 67;
+    static final int FRAMES = 300;
+
+    double[] randomInterleaved(long seed) {
+        Random random = new Random(seed);
+
+        double[] samples = new double[CHANNELS * FRAMES];
+
+        for (int index = 0; index < samples.length; index++)
+            samples[index] = random.nextGaussian();
+
+        return samples;
+    }
+
+    @Test
+    public void testVectorizedAndScalarKernelsAreBitIdentical() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeLowpassCoefficients(6, .1);
+
+        double[] input = randomInterleaved(17);
+
+        double[] vectorizedOutput = new double[input.length];
+        double[] scalarOutput = new double[input.length];
+
+        MultiChannelIirFilter vectorized = new MultiChannelIirFilter(coefficients, CHANNELS);
+        MultiChannelIirFilter scalar = new MultiChannelIirFilter(coefficients, CHANNELS);
+        scalar.setVectorized(false);
+
+        // split the block to prove that state carries across calls in both kernels
+        vectorized.processInterleaved(input, 0, vectorizedOutput, 0, 100);
+        vectorized.processInterleaved(input, 100 * CHANNELS, vectorizedOutput, 100 * CHANNELS, FRAMES - 100);
+
+        scalar.processInterleaved(input, 0, scalarOutput, 0, 100);
+        scalar.processInterleaved(input, 100 * CHANNELS, scalarOutput, 100 * CHANNELS, FRAMES - 100);
+
+        for (int index = 0; index < input.length; index++)
+            assertEquals(Double.doubleToRawLongBits(scalarOutput[index]), Double.doubleToRawLongBits(vectorizedOutput[index]));
+    }
+
+    @Test
+    public void testEachChannelMatchesSingleChannelFilter() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeHighpassCoefficients(4, .2);
+
+        double[] input = randomInterleaved(3);
+        double[] output = new double[input.length];
+
+        new MultiChannelIirFilter(coefficients, CHANNELS).processInterleaved(input, 0, output, 0, FRAMES);
+
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            IirFilter filter = new IirFilter(coefficients);
+
+            for (int frame = 0; frame < FRAMES; frame++)
+                assertEquals(filter.process(input[frame * CHANNELS + channel]), output[frame * CHANNELS + channel], 0);
+        }
+    }
+
+    @Test
+    public void testPlanarMatchesInterleaved() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeLowpassCoefficients(4, .05);
+
+        double[] input = randomInterleaved(5);
+        double[] expected = new double[input.length];
+
+        new MultiChannelIirFilter(coefficients, CHANNELS).processInterleaved(input, 0, expected, 0, FRAMES);
+
+        double[][] planar = new double[CHANNELS][FRAMES];
+
+        for (int channel = 0; channel < CHANNELS; channel++)
+            for (int frame = 0; frame < FRAMES; frame++)
+                planar[channel][frame] = input[frame * CHANNELS + channel];
+
+        new MultiChannelIirFilter(coefficients, CHANNELS).processPlanar(planar, 0, planar, 0, FRAMES);
+
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            double[] expectedChannel = new double[FRAMES];
+
+            for (int frame = 0; frame < FRAMES; frame++)
+                expectedChannel[frame] = expected[frame * CHANNELS + channel];
+
+            assertArrayEquals(expectedChannel, planar[channel], 0);
+        }
+    }
+}
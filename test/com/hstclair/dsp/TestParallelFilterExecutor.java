@@ -0,0 +1,160 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/18/26 2:40 AM
+ */
+public class TestParallelFilterExecutor {
+
+    ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+    Random random = new Random(20);
+
+    double[] noise(int length) {
+        double[] signal = new double[length];
+
+        for (int index = 0; index < length; index++)
+            signal[index] = random.nextGaussian();
+
+        return signal;
+    }
+
+    double[] filterWhole(FilterJob job) {
+        double[] expected = new double[job.getSignal().length];
+
+        new BiquadCascadeFilter(job.getDesign()).process(job.getSignal(), 0, expected, 0, expected.length);
+
+        return expected;
+    }
+
+    List<FilterJob> mixedJobs() {
+        List<FilterJob> jobs = new ArrayList<>();
+
+        jobs.add(new FilterJob(noise(1 << 20), calculator.computeLowpassCascade(8, .1)));
+
+        for (int index = 0; index < 40; index++) {
+            BiquadCascade design = (index & 1) == 0
+                    ? calculator.computeLowpassCascade(2 + 2 * (index % 4), .02 + .01 * index)
+                    : calculator.computeHighpassCascade(4, .05);
+
+            jobs.add(new FilterJob(noise(100 + random.nextInt(20000)), design));
+        }
+
+        jobs.add(new FilterJob(new double[0], calculator.computeLowpassCascade(2, .1)));
+
+        return jobs;
+    }
+
+    @Test
+    public void testWholeSignalsMatchSequentialFiltering() {
+        List<FilterJob> jobs = mixedJobs();
+
+        try (ParallelFilterExecutor executor = new ParallelFilterExecutor()) {
+            executor.execute(jobs);
+        }
+
+        for (FilterJob job : jobs) {
+            assertEquals(1, job.getSegments());
+            assertTrue(job.getLatencyNanos() >= 0);
+            assertArrayEquals(filterWhole(job), job.getOutput(), 0);
+        }
+    }
+
+    @Test
+    public void testLongSignalsAreSplitAtSafePoints() {
+        List<FilterJob> jobs = mixedJobs();
+
+        try (ParallelFilterExecutor executor = new ParallelFilterExecutor(4, 1e-24)) {
+            executor.execute(jobs);
+        }
+
+        assertTrue(jobs.get(0).getSegments() > 1);
+
+        for (FilterJob job : jobs) {
+            double[] expected = filterWhole(job);
+
+            for (int index = 0; index < expected.length; index++)
+                assertEquals(expected[index], job.getOutput()[index], 1e-10);
+        }
+
+        // short jobs are never split
+        for (FilterJob job : jobs.subList(1, jobs.size()))
+            assertEquals(1, job.getSegments());
+    }
+
+    @Test
+    public void testInPlaceJobsAreNotSplit() {
+        double[] signal = noise(1 << 20);
+        double[] original = signal.clone();
+
+        BiquadCascade design = calculator.computeLowpassCascade(4, .1);
+
+        FilterJob job = new FilterJob(signal, design, signal);
+
+        try (ParallelFilterExecutor executor = new ParallelFilterExecutor(4, 1e-20)) {
+            executor.execute(Arrays.asList(job, new FilterJob(noise(1000), design)));
+        }
+
+        assertEquals(1, job.getSegments());
+        assertArrayEquals(filterWhole(new FilterJob(original, design)), signal, 0);
+    }
+
+    @Test
+    public void testStatistics() {
+        List<FilterJob> jobs = mixedJobs();
+
+        long samples = 0;
+
+        for (FilterJob job : jobs)
+            samples += job.getSignal().length;
+
+        try (ParallelFilterExecutor executor = new ParallelFilterExecutor(2, 0)) {
+            executor.execute(jobs);
+            executor.execute(jobs.subList(0, 3));
+
+            assertEquals(jobs.size() + 3, executor.getProcessedJobs());
+            assertEquals(samples + jobs.get(0).getSignal().length + jobs.get(1).getSignal().length
+                    + jobs.get(2).getSignal().length, executor.getProcessedSamples());
+
+            assertTrue(executor.getElapsedNanos() > 0);
+            assertTrue(executor.getThroughput() > 0);
+            assertTrue(executor.getLatencyPercentile(100) >= executor.getLatencyPercentile(50));
+        }
+    }
+
+    @Test
+    public void testValidation() {
+        try {
+            new ParallelFilterExecutor(0, 0);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        try {
+            new ParallelFilterExecutor(1, 1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        try {
+            new FilterJob(new double[10], calculator.computeLowpassCascade(2, .1), new double[9]);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 7:00 PM
+ */
+public class TestRealtimeFilterPipeline {
+
+    @Test
+    public void testBlockingPipelineMatchesOfflineFiltering() {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(4, .1);
+
+        double[] input = new double[50000];
+
+        for (int index = 0; index < input.length; index++)
+            input[index] = Math.sin(index * .3) + Math.cos(index * .011);
+
+        double[] expected = input.clone();
+        new BiquadCascadeFilter(cascade).process(expected, 0, expected, 0, expected.length);
+
+        double[] output = new double[input.length];
+        int[] received = new int[1];
+
+        RealtimeFilterPipeline instance = new RealtimeFilterPipeline(new BiquadCascadeFilter(cascade),
+                (samples, off, len) -> {
+                    System.arraycopy(samples, off, output, received[0], len);
+                    received[0] += len;
+                }, 128, OverflowPolicy.BLOCK, 32);
+
+        for (int offset = 0; offset < input.length; offset += 100)
+            assertEquals(100, instance.write(input, offset, 100));
+
+        instance.close();
+
+        assertEquals(input.length, received[0]);
+        assertEquals(input.length, instance.getProcessedSamples());
+        assertEquals(0, instance.getDroppedSamples());
+
+        for (int index = 0; index < input.length; index++)
+            assertEquals(expected[index], output[index], 0);
+
+        assertTrue(instance.getLatencyPercentile(99) >= instance.getLatencyPercentile(50));
+        assertTrue(instance.getLatencyPercentile(100) > 0);
+    }
+
+    @Test
+    public void testDroppingPipelineCountsDroppedSamples() {
+        RealtimeFilterPipeline instance = new RealtimeFilterPipeline(new IirFilter(new ButterworthCoefficientCalculator().computeLowpassCoefficients(2, .1)),
+                (samples, off, len) -> {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }, 16, OverflowPolicy.DROP);
+
+        double[] samples = new double[10];
+        long accepted = 0;
+
+        for (int count = 0; count < 100; count++)
+            accepted += instance.write(samples, 0, samples.length);
+
+        instance.close();
+
+        assertTrue(instance.getDroppedSamples() > 0);
+        assertEquals(1000, accepted + instance.getDroppedSamples());
+        assertEquals(accepted, instance.getProcessedSamples());
+    }
+
+    @Test
+    public void testSinkFailureStopsBlockingProducer() {
+        RuntimeException thrown = new RuntimeException("sink failed");
+
+        RealtimeFilterPipeline instance = new RealtimeFilterPipeline(new IirFilter(new ButterworthCoefficientCalculator().computeLowpassCoefficients(2, .1)),
+                (samples, off, len) -> {
+                    throw thrown;
+                }, 16, OverflowPolicy.BLOCK);
+
+        double[] samples = new double[10];
+
+        try {
+            // the ring fills once the consumer has died, so a blocked write must notice the failure
+            for (int count = 0; count < 100; count++)
+                instance.write(samples, 0, samples.length);
+
+            fail();
+        } catch (IllegalStateException ex) {
+            assertSame(thrown, ex.getCause());
+        }
+
+        try {
+            instance.close();
+            fail();
+        } catch (IllegalStateException ex) {
+            assertSame(thrown, ex.getCause());
+        }
+    }
+
+    @Test
+    public void testCloseRestoresInterrupt() {
+        RealtimeFilterPipeline instance = new RealtimeFilterPipeline(new IirFilter(new ButterworthCoefficientCalculator().computeLowpassCoefficients(2, .1)),
+                (samples, off, len) -> { }, 16, OverflowPolicy.BLOCK);
+
+        instance.write(new double[10], 0, 10);
+
+        Thread.currentThread().interrupt();
+
+        instance.close();
+
+        assertTrue(Thread.interrupted());
+        assertEquals(10, instance.getProcessedSamples());
+    }
+
+    @Test
+    public void testLatencyHistogramPercentiles() {
+        LatencyHistogram instance = new LatencyHistogram();
+
+        for (long value = 1; value <= 1000; value++)
+            instance.record(value * 1000);
+
+        assertEquals(1000, instance.count());
+
+        long median = instance.percentile(50);
+
+        assertTrue(median >= 500000 && median <= 500000 * 9 / 8);
+        assertTrue(instance.percentile(100) >= 1000000);
+    }
+}
@@ -0,0 +1,144 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.fail;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 11:00 PM
+ */
+public class TestResampling {
+
+    double[] signal(int length) {
+        double[] samples = new double[length];
+
+        for (int index = 0; index < length; index++)
+            samples[index] = Math.sin(index * .013) + .5 * Math.sin(index * .9 + 1) + .25 * Math.cos(index * 2.7);
+
+        return samples;
+    }
+
+    /**
+     * insert up - 1 zeros after each sample (scaled by up), filter at the high rate and keep every down'th sample
+     */
+    double[] reference(double[] signal, int up, int down, int first, BiquadCascade cascade) {
+        double[] stuffed = new double[signal.length * up];
+
+        for (int index = 0; index < signal.length; index++)
+            stuffed[index * up] = signal[index] * up;
+
+        new BiquadCascadeFilter(cascade).process(stuffed, 0, stuffed, 0, stuffed.length);
+
+        double[] result = new double[(stuffed.length - first + down - 1) / down];
+
+        for (int index = 0; index < result.length; index++)
+            result[index] = stuffed[first + index * down];
+
+        return result;
+    }
+
+    void assertClose(double[] expected, double[] actual, int count) {
+        assertEquals(expected.length, count);
+
+        for (int index = 0; index < count; index++)
+            assertEquals(expected[index], actual[index], 1e-9);
+    }
+
+    @Test
+    public void testDecimatorMatchesFilterThenDrop() {
+        for (int factor : new int[] { 1, 2, 3, 8 }) {
+            BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, RationalResampler.antiAliasCutoff(1, factor));
+
+            double[] signal = signal(1000 * factor);
+            double[] expected = reference(signal, 1, factor, factor - 1, cascade);
+
+            Decimator decimator = new Decimator(factor);
+
+            double[] output = new double[decimator.outputCapacity(signal.length)];
+
+            // uneven block sizes exercise periods that straddle calls
+            int produced = 0;
+
+            for (int index = 0, block = 1; index < signal.length; index += block, block = block * 3 % 17 + 1) {
+                int count = Math.min(block, signal.length - index);
+
+                produced += decimator.process(signal, index, count, output, produced);
+            }
+
+            assertClose(expected, output, produced);
+        }
+    }
+
+    @Test
+    public void testInterpolatorMatchesZeroStuffingThenFilter() {
+        int factor = 4;
+
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, RationalResampler.antiAliasCutoff(factor, 1));
+
+        double[] signal = signal(500);
+        double[] expected = reference(signal, factor, 1, 0, cascade);
+
+        Interpolator interpolator = new Interpolator(factor);
+
+        double[] output = new double[interpolator.outputCapacity(signal.length)];
+
+        assertClose(expected, output, interpolator.process(signal, 0, signal.length, output, 0));
+    }
+
+    @Test
+    public void testRationalResampler() {
+        RationalResampler resampler = new RationalResampler(6, 4);
+
+        assertEquals(3, resampler.getUp());
+        assertEquals(2, resampler.getDown());
+
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(8, RationalResampler.antiAliasCutoff(3, 2));
+
+        double[] signal = signal(999);
+        double[] expected = reference(signal, 3, 2, 0, cascade);
+
+        double[] output = new double[resampler.outputCapacity(signal.length)];
+
+        int produced = resampler.process(signal, 0, 500, output, 0);
+        produced += resampler.process(signal, 500, 499, output, produced);
+
+        assertClose(expected, output, produced);
+    }
+
+    @Test
+    public void testDecimatorRemovesAliases() {
+        Decimator decimator = new Decimator(4);
+
+        double[] signal = new double[8000];
+
+        // 0.3 of the input rate would alias to 0.05 of the input rate
+        for (int index = 0; index < signal.length; index++)
+            signal[index] = Math.sin(2 * Math.PI * .3 * index);
+
+        double[] output = new double[decimator.outputCapacity(signal.length)];
+
+        int produced = decimator.process(signal, 0, signal.length, output, 0);
+
+        for (int index = produced / 2; index < produced; index++)
+            assertEquals(0, output[index], 1e-4);
+    }
+
+    @Test
+    public void testInvalidFactors() {
+        try {
+            new Decimator(0);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        try {
+            new RationalResampler(3, -1);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/18/26 12:30 AM
+ */
+public class TestResponseGenerator {
+
+    ButterworthCoefficientCalculator calculator = new ButterworthCoefficientCalculator();
+
+    double[] fixedLengthImpulse(BiquadCascade cascade, int length) {
+        double[] response = new double[length];
+
+        response[0] = 1;
+
+        new BiquadCascadeFilter(cascade).process(response, 0, response, 0, length);
+
+        return response;
+    }
+
+    @Test
+    public void testStopsAfterDecay() {
+        BiquadCascade cascade = calculator.computeLowpassCascade(6, .05);
+
+        double epsilon = 1e-12;
+        int maxLength = 100000;
+
+        ResponseGenerator generator = new ResponseGenerator(epsilon, maxLength);
+
+        int length = generator.impulse(cascade);
+
+        assertTrue(length < 2000);
+
+        double[] expected = fixedLengthImpulse(cascade, maxLength);
+
+        double total = 0;
+        double tail = 0;
+
+        for (int index = 0; index < maxLength; index++) {
+            if (index < length)
+                assertEquals(expected[index], generator.getBuffer()[index], 0);
+
+            total += expected[index] * expected[index];
+
+            if (index >= length)
+                tail += expected[index] * expected[index];
+        }
+
+        assertTrue(tail < epsilon * total);
+    }
+
+    @Test
+    public void testSlowRiseIsNotMistakenForDecay() {
+        // the response of a narrow low pass design starts far below epsilon and takes many samples to build
+        BiquadCascade cascade = calculator.computeLowpassCascade(8, .001);
+
+        ResponseGenerator generator = new ResponseGenerator(1e-10, 1000000);
+
+        int length = generator.impulse(cascade);
+
+        assertTrue(length > 1000);
+        assertTrue(length <= ResponseGenerator.estimateLength(cascade, 1e-10) + ResponseGenerator.window(cascade, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testStepSettlesAtDcGain() {
+        ResponseGenerator generator = new ResponseGenerator(1e-14, 100000);
+
+        int length = generator.step(calculator.computeLowpassCascade(4, .1));
+
+        assertEquals(1, generator.getBuffer()[length - 1], 1e-6);
+
+        length = generator.step(new IirFilter(calculator.computeHighpassCoefficients(4, .1)));
+
+        assertEquals(0, generator.getBuffer()[length - 1], 1e-6);
+        assertEquals(length, generator.getLength());
+    }
+
+    @Test
+    public void testBufferIsReused() {
+        ResponseGenerator generator = new ResponseGenerator(1e-9, 100000);
+
+        generator.impulse(calculator.computeLowpassCascade(4, .01));
+
+        double[] buffer = generator.getBuffer();
+
+        for (int design = 1; design < 20; design++)
+            generator.impulse(calculator.computeLowpassCascade(4, .01 + design * .01));
+
+        assertSame(buffer, generator.getBuffer());
+    }
+
+    @Test
+    public void testMaxLength() {
+        ResponseGenerator generator = new ResponseGenerator(1e-15, 500);
+
+        assertEquals(500, generator.impulse(calculator.computeLowpassCascade(8, .001)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.hstclair.dsp;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author hstclair
+ * @since 10/17/26 5:40 PM
+ */
+public class TestZeroPhaseFilter {
+
+    double[] signal(int length) {
+        double[] samples = new double[length];
+
+        for (int index = 0; index < length; index++)
+            samples[index] = 1 + Math.sin(index * .02) + .5 * Math.sin(index * 2.1);
+
+        return samples;
+    }
+
+    /**
+     * filtfilt over the whole signal at once, extending it in memory
+     */
+    double[] reference(RecursionCoefficients coefficients, double[] signal) {
+        IirFilter filter = new IirFilter(coefficients);
+
+        int pad = 3 * (filter.order() + 1);
+        int length = signal.length;
+
+        double[] extended = new double[length + 2 * pad];
+
+        for (int index = 0; index < pad; index++) {
+            extended[index] = 2 * signal[0] - signal[pad - index];
+            extended[pad + length + index] = 2 * signal[length - 1] - signal[length - 2 - index];
+        }
+
+        System.arraycopy(signal, 0, extended, pad, length);
+
+        filter.setSteadyState(extended[0]);
+        filter.process(extended, 0, extended, 0, extended.length);
+
+        ZeroPhaseFilter.reverse(extended, extended.length);
+
+        filter.setSteadyState(extended[0]);
+        filter.process(extended, 0, extended, 0, extended.length);
+
+        ZeroPhaseFilter.reverse(extended, extended.length);
+
+        double[] result = new double[length];
+
+        System.arraycopy(extended, pad, result, 0, length);
+
+        return result;
+    }
+
+    @Test
+    public void testBlockwiseMatchesWholeSignal() {
+        RecursionCoefficients coefficients = new ButterworthCoefficientCalculator().computeLowpassCoefficients(4, .05);
+
+        double[] signal = signal(1000);
+        double[] expected = reference(coefficients, signal);
+
+        new ZeroPhaseFilter(new IirFilter(coefficients), 37).filter(signal);
+
+        assertArrayEquals(expected, signal, 1e-12);
+    }
+
+    @Test
+    public void testMappedStoreMatchesArray() throws IOException {
+        BiquadCascade cascade = new ButterworthCoefficientCalculator().computeLowpassCascade(6, .1);
+
+        double[] expected = signal(3000);
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (double sample : expected)
+            buffer.putDouble(sample);
+
+        new ZeroPhaseFilter(cascade).filter(expected);
+
+        Path path = Files.createTempFile("filtfilt", ".raw");
+
+        try {
+            Files.write(path, buffer.array());
+
+            try (MappedSampleStore store = new MappedSampleStore(path, ByteOrder.LITTLE_ENDIAN)) {
+                store.windowSamples = 500;
+
+                new ZeroPhaseFilter(new BiquadCascadeFilter(cascade), 128).filter(store);
+
+                double[] result = new double[expected.length];
+
+                store.read(0, result, 0, result.length);
+
+                assertArrayEquals(expected, result, 1e-12);
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testPassbandSineHasNoPhaseShift() {
+        double[] signal = new double[4000];
+
+        for (int index = 0; index < signal.length; index++)
+            signal[index] = Math.sin(index * .01);
+
+        double[] expected = signal.clone();
+
+        new ZeroPhaseFilter(new ButterworthCoefficientCalculator().computeLowpassCascade(4, .1)).filter(signal);
+
+        for (int index = 0; index < signal.length; index++)
+            assertEquals(expected[index], signal[index], 1e-3);
+    }
+}
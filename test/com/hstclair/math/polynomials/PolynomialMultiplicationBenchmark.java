@@ -0,0 +1,63 @@
+package com.hstclair.math.polynomials;
+
+import java.util.Random;
+
+/**
+ * Times schoolbook, Karatsuba and FFT multiplication of random polynomials over a range of lengths, to locate the
+ * break-even points used for {@link PolynomialMultiplier#KARATSUBA_BREAK_EVEN} and
+ * {@link PolynomialMultiplier#DEFAULT_FFT_THRESHOLD} on the hardware at hand.
+ *
+ * Run with: java com.hstclair.math.polynomials.PolynomialMultiplicationBenchmark
+ *
+ * @author hstclair
+ * @since 10/18/26 5:00 AM
+ */
+public class PolynomialMultiplicationBenchmark {
+
+    static final int[] LENGTHS = { 8, 16, 24, 32, 48, 64, 96, 128, 192, 256, 384, 512, 768, 1024, 2048, 4096, 8192, 20001 };
+
+    static final long MIN_NANOS = 50_000_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+
+        PolynomialMultiplier schoolbook = new PolynomialMultiplier(Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+        PolynomialMultiplier karatsuba = new PolynomialMultiplier(PolynomialMultiplier.KARATSUBA_BREAK_EVEN, Integer.MAX_VALUE, 1);
+        PolynomialMultiplier fft = new PolynomialMultiplier(2, 2, Double.MAX_VALUE);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int length : LENGTHS) {
+                double[] left = new double[length];
+                double[] right = new double[length];
+
+                for (int index = 0; index < length; index++) {
+                    left[index] = random.nextGaussian();
+                    right[index] = random.nextGaussian();
+                }
+
+                // schoolbook is quadratic; skip it where it would dominate the run
+                double schoolbookNanos = length <= 8192 ? measure(schoolbook, left, right) : Double.NaN;
+                double karatsubaNanos = measure(karatsuba, left, right);
+                double fftNanos = measure(fft, left, right);
+
+                System.out.printf("round %d length %6d   schoolbook %12.0f ns, karatsuba %12.0f ns, fft %12.0f ns%n",
+                        round, length, schoolbookNanos, karatsubaNanos, fftNanos);
+            }
+        }
+    }
+
+    static double measure(PolynomialMultiplier multiplier, double[] left, double[] right) {
+        double[] product = new double[left.length + right.length - 1];
+
+        long start = System.nanoTime();
+        long count = 0;
+
+        do {
+            multiplier.multiply(left, left.length, right, right.length, product);
+            count++;
+        } while (System.nanoTime() - start < MIN_NANOS);
+
+        return (System.nanoTime() - start) / (double) count;
+    }
+}
@@ -0,0 +1,157 @@
+package com.hstclair.math.polynomials;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/18/26 3:30 AM
+ */
+public class TestMutablePolynomial {
+
+    Random random = new Random(21);
+
+    Polynomial randomPolynomial(int degree) {
+        double[] coefficients = new double[degree + 1];
+
+        for (int index = 0; index <= degree; index++)
+            coefficients[index] = random.nextInt(3) == 0 ? 0 : random.nextGaussian();
+
+        coefficients[degree] = 1 + random.nextDouble();
+
+        return Polynomial.of(coefficients);
+    }
+
+    @Test
+    public void testArithmeticMatchesPolynomial() {
+        for (int trial = 0; trial < 200; trial++) {
+            Polynomial left = randomPolynomial(random.nextInt(8));
+            Polynomial right = randomPolynomial(random.nextInt(8));
+            double scalar = random.nextGaussian();
+
+            MutablePolynomial workspace = new MutablePolynomial(2);
+
+            assertEquals(left.sum(right), workspace.set(left).add(right).freeze());
+            assertEquals(left.difference(right), workspace.set(left).subtract(right).freeze());
+            assertEquals(left.product(right), workspace.set(left).multiply(right).freeze());
+            assertEquals(left.product(scalar), workspace.set(left).multiply(scalar).freeze());
+            assertEquals(left.divide(scalar), workspace.set(left).divide(scalar).freeze());
+            assertEquals(left.negate(), workspace.set(left).negate().freeze());
+            assertEquals(left.sum(scalar), workspace.set(left).add(scalar).freeze());
+            assertEquals(left.signChanges(), workspace.set(left).signChanges());
+        }
+    }
+
+    @Test
+    public void testComposeMatchesApply() {
+        Polynomial[] arguments = {
+                Polynomial.of(new double[] { 1, 1 }),
+                Polynomial.of(new double[] { 0, 3.5 }),
+                Polynomial.of(new double[] { 2.25, 1 }),
+                Polynomial.of(new double[] { -1, 0, 2 }),
+                Polynomial.of(4),
+                Polynomial.IDENTITY,
+                Polynomial.ZERO
+        };
+
+        MutablePolynomial workspace = new MutablePolynomial();
+
+        for (int trial = 0; trial < 100; trial++) {
+            Polynomial polynomial = randomPolynomial(random.nextInt(12));
+
+            for (Polynomial argument : arguments)
+                assertEquals(polynomial.apply(argument), workspace.set(polynomial).compose(argument).freeze());
+        }
+    }
+
+    @Test
+    public void testChainsMatchPolynomial() {
+        Polynomial polynomial = randomPolynomial(6);
+        Polynomial shift = Polynomial.of(new double[] { 1, 1 });
+
+        Polynomial expected = polynomial.apply(shift).product(polynomial).sum(3).reduceDegree(2).negate();
+
+        MutablePolynomial workspace = new MutablePolynomial(polynomial);
+
+        workspace.compose(shift).multiply(polynomial).add(3).reduceDegree(2).negate();
+
+        assertEquals(expected, workspace.freeze());
+        assertEquals(expected.degree(), workspace.degree());
+        assertEquals(expected.constant(), workspace.constant(), 0);
+        assertEquals(expected.leadingCoefficient(), workspace.leadingCoefficient(), 0);
+        assertEquals(expected.getCoefficients()[1], workspace.coefficient(1), 0);
+        assertEquals(0, workspace.coefficient(100), 0);
+    }
+
+    @Test
+    public void testCapacityIsReused() {
+        MutablePolynomial workspace = new MutablePolynomial();
+        Polynomial shift = Polynomial.of(new double[] { 1, 1 });
+
+        workspace.set(randomPolynomial(10)).compose(shift);
+
+        double[] coefficients = workspace.coefficients;
+        double[] scratch = workspace.scratch;
+        double[] spare = workspace.spare;
+
+        for (int trial = 0; trial < 50; trial++)
+            workspace.set(randomPolynomial(10)).compose(shift).multiply(2).add(1);
+
+        // the three arrays only ever change places
+        assertEquals(16, workspace.capacity());
+        assertTrue(workspace.coefficients == coefficients || workspace.coefficients == scratch || workspace.coefficients == spare);
+    }
+
+    @Test
+    public void testZero() {
+        MutablePolynomial workspace = new MutablePolynomial(0);
+
+        assertSame(Polynomial.ZERO, workspace.freeze());
+        assertEquals(-1, workspace.degree());
+
+        assertEquals(Polynomial.of(5), workspace.add(5).freeze());
+        assertSame(Polynomial.ZERO, workspace.multiply(0).freeze());
+        assertSame(Polynomial.ZERO, workspace.set(new double[] { 0, 0, 0 }).freeze());
+        assertSame(Polynomial.IDENTITY, workspace.set(new double[] { 1, 0 }).freeze());
+
+        try {
+            workspace.divide(0);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testTaylorShiftMatchesPolynomial() {
+        MutablePolynomial workspace = new MutablePolynomial();
+
+        for (int trial = 0; trial < 50; trial++) {
+            Polynomial polynomial = randomPolynomial(random.nextInt(12));
+            double shift = trial % 3 == 0 ? 1 : random.nextGaussian();
+
+            assertEquals(polynomial.taylorShift(shift), workspace.set(polynomial).taylorShift(shift).freeze());
+        }
+
+        Polynomial large = randomPolynomial(2 * Polynomial.TAYLOR_SHIFT_THRESHOLD);
+
+        assertEquals(large.taylorShift(.5), workspace.set(large).taylorShift(.5).freeze());
+    }
+
+    @Test
+    public void testBudansTheoremMatchesPolynomial() {
+        MutablePolynomial workspace = new MutablePolynomial(1);
+
+        for (int trial = 0; trial < 50; trial++) {
+            Polynomial polynomial = randomPolynomial(random.nextInt(12));
+
+            assertEquals(polynomial.budansTheorem(), workspace.set(polynomial).budansTheorem().freeze());
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.hstclair.math.Complex;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.fail;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertTrue;
@@ -1012,4 +1015,223 @@ public class TestPolynomial {
         assertEquals(Polynomial.ZERO, result.remainder);
         assertEquals(multiplicandA, result.quotient);
     }
+
+    @Test
+    public void testTaylorShiftMatchesApply() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7, 2, -4, 1 });
+
+        for (double shift : new double[] { 1, 3, -2, .5 })
+            assertEquals(polynomial.apply(Polynomial.of(new double[] { shift, 1 })), polynomial.taylorShift(shift));
+    }
+
+    @Test
+    public void testTaylorShiftByZeroReturnsSamePolynomial() {
+        Polynomial polynomial = Polynomial.of(new double[] { 5, 13, 7 });
+
+        assertTrue(polynomial == polynomial.taylorShift(0));
+        assertTrue(Polynomial.ZERO == Polynomial.ZERO.taylorShift(3));
+    }
+
+    @Test
+    public void testTaylorShiftOfHighDegreeMatchesInPlaceKernel() {
+        Random random = new Random(22);
+
+        double[] coefficients = new double[3 * Polynomial.TAYLOR_SHIFT_THRESHOLD + 17];
+
+        // positive coefficients and shifts sum only positive terms, so every coefficient must be accurate to a few ulps
+        for (int index = 0; index < coefficients.length; index++)
+            coefficients[index] = .5 + random.nextDouble();
+
+        for (double shift : new double[] { 1, .25 }) {
+            double[] expected = coefficients.clone();
+
+            Polynomial.taylorShift(expected, expected.length, shift);
+
+            double[] actual = Polynomial.of(coefficients).taylorShift(shift).getCoefficients();
+
+            assertEquals(expected.length, actual.length);
+            assertEquals(coefficients[coefficients.length - 1], actual[actual.length - 1]);
+
+            for (int index = 0; index < expected.length; index++)
+                assertEquals(expected[index], actual[index], Math.abs(expected[index]) * 1e-12);
+        }
+
+        // with mixed signs only the error relative to the largest coefficient is bounded
+        for (int index = 0; index < coefficients.length; index++)
+            coefficients[index] = random.nextDouble() * 2 - 1;
+
+        double[] expected = coefficients.clone();
+
+        Polynomial.taylorShift(expected, expected.length, -.5);
+
+        double scale = 0;
+
+        for (double coefficient : expected)
+            scale = Math.max(scale, Math.abs(coefficient));
+
+        double[] actual = Polynomial.of(coefficients).taylorShift(-.5).getCoefficients();
+
+        assertEquals(expected.length, actual.length);
+        assertEquals(coefficients[coefficients.length - 1], actual[actual.length - 1]);
+
+        for (int index = 0; index < expected.length; index++)
+            assertEquals(expected[index], actual[index], scale * 1e-12);
+    }
+
+    @Test
+    public void testBudansTheoremMatchesSumOfPascalProducts() {
+        Random random = new Random(23);
+
+        for (int trial = 0; trial < 50; trial++) {
+            double[] coefficients = new double[1 + random.nextInt(15)];
+
+            for (int index = 0; index < coefficients.length; index++)
+                coefficients[index] = random.nextInt(21) - 10;
+
+            Polynomial polynomial = Polynomial.of(coefficients);
+
+            // integer coefficients keep both forms exact
+            Function<Integer, Polynomial> function = (k) -> Polynomial.pascal(polynomial.degree() - k).product(polynomial.getCoefficients()[k]);
+
+            assertEquals(Polynomial.sigma(function, polynomial.degree()), polynomial.budansTheorem());
+        }
+    }
+
+    @Test
+    public void testBudansTheoremOfZeroConstantLowersDegree() {
+        Polynomial polynomial = Polynomial.of(new double[] { 0, 2, 0, 1 });
+
+        // (x + 1)^3 (2 / (x + 1) + 1 / (x + 1)^3) = 2(x + 1)^2 + 1
+        assertEquals(Polynomial.of(new double[] { 3, 4, 2 }), polynomial.budansTheorem());
+        assertEquals(Polynomial.ZERO, Polynomial.ZERO.budansTheorem());
+        assertEquals(Polynomial.of(7), Polynomial.of(7).budansTheorem());
+    }
+
+    @Test
+    public void testFromRootsMatchesSequentialProductForFewRoots() {
+        double[] roots = { 1, -2, 0.5, 3, -0.25, 7 };
+
+        Polynomial expected = Polynomial.of(1);
+
+        for (double root : roots)
+            expected = expected.product(Polynomial.of(new double[] { -root, 1 }));
+
+        assertEquals(expected, Polynomial.fromRoots(roots));
+        assertEquals(Polynomial.of(1), Polynomial.fromRoots(new double[0]));
+    }
+
+    @Test
+    public void testFromRootsWithManyRootsHasExpectedEndCoefficients() {
+        Random random = new Random(25);
+
+        double[] roots = new double[500];
+
+        for (int index = 0; index < roots.length; index++)
+            roots[index] = random.nextInt(2001) / 1000.0 - 1;
+
+        Polynomial polynomial = Polynomial.fromRoots(roots);
+
+        assertEquals(roots.length, polynomial.degree());
+        assertEquals(1.0, polynomial.getCoefficients()[roots.length]);
+
+        // the constant term is the product of the negated roots, up to rounding
+        double constant = 1;
+
+        for (double root : roots)
+            constant *= -root;
+
+        assertEquals(constant, polynomial.getCoefficients()[0], Math.abs(constant) * 1e-12);
+    }
+
+    @Test
+    public void testFromRootsWithManyRootsMatchesSequentialProduct() {
+        Random random = new Random(27);
+
+        double[] roots = new double[600];
+
+        for (int index = 0; index < roots.length; index++)
+            roots[index] = .05 + .9 * random.nextDouble();
+
+        Polynomial expected = Polynomial.of(1);
+
+        for (double root : roots)
+            expected = expected.product(Polynomial.of(new double[] { -root, 1 }));
+
+        Polynomial actual = Polynomial.fromRoots(roots);
+
+        assertEquals(expected.degree(), actual.degree());
+
+        // positive roots give coefficients of alternating sign with no cancellation, so each must be accurate
+        for (int index = 0; index <= roots.length; index++)
+            assertEquals(expected.getCoefficients()[index], actual.getCoefficients()[index],
+                    Math.abs(expected.getCoefficients()[index]) * 1e-12);
+
+        assertEquals(roots.length, actual.signChanges());
+    }
+
+    @Test
+    public void testFromRootsWithOverflowingCoefficientsHasNoNaN() {
+        Random random = new Random(28);
+
+        double[] roots = new double[3000];
+
+        for (int index = 0; index < roots.length; index++)
+            roots[index] = .05 + .9 * random.nextDouble();
+
+        for (double coefficient : Polynomial.fromRoots(roots).getCoefficients())
+            assertFalse(Double.isNaN(coefficient));
+    }
+
+    @Test
+    public void testFromRootsOnPoolMatchesSequential() {
+        Random random = new Random(26);
+
+        double[] roots = new double[1000];
+
+        for (int index = 0; index < roots.length; index++)
+            roots[index] = random.nextDouble() * 2 - 1;
+
+        double[] pairReal = { 0.5, -0.25 };
+        double[] pairImaginary = { 0.75, 0.125 };
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertEquals(Polynomial.fromRoots(roots), Polynomial.fromRoots(roots, pool));
+            assertEquals(Polynomial.fromRoots(roots, pairReal, pairImaginary),
+                    Polynomial.fromRoots(roots, pairReal, pairImaginary, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFromRootsWithConjugatePairs() {
+        // (x - (1 + 2i)) (x - (1 - 2i)) = x^2 - 2x + 5
+        assertEquals(Polynomial.of(new double[] { 5, -2, 1 }),
+                Polynomial.fromRoots(new double[0], new double[] { 1 }, new double[] { 2 }));
+
+        // 31 real roots leave no room for a quadratic in the first leaf
+        double[] ones = new double[31];
+        Arrays.fill(ones, 1);
+
+        Polynomial polynomial = Polynomial.fromRoots(ones, new double[] { 0, 0 }, new double[] { 1, 1 });
+
+        assertEquals(35, polynomial.degree());
+        assertEquals(0.0, polynomial.apply(1));
+
+        // (x - 3) (x^2 - 2x + 5) = x^3 - 5x^2 + 11x - 15
+        assertEquals(Polynomial.of(new double[] { -15, 11, -5, 1 }),
+                Polynomial.fromRoots(new double[] { 3 }, new double[] { 1 }, new double[] { -2 }));
+    }
+
+    @Test
+    public void testFromRootsRejectsMismatchedPairs() {
+        try {
+            Polynomial.fromRoots(new double[0], new double[] { 1, 2 }, new double[] { 1 });
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
 }
@@ -0,0 +1,234 @@
+package com.hstclair.math.polynomials;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author hstclair
+ * @since 10/18/26 4:40 AM
+ */
+public class TestPolynomialMultiplier {
+
+    Random random = new Random(24);
+
+    double[] randomCoefficients(int length) {
+        double[] coefficients = new double[length];
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = random.nextGaussian();
+
+        return coefficients;
+    }
+
+    double[] integerCoefficients(int length) {
+        double[] coefficients = new double[length];
+
+        for (int index = 0; index < length; index++)
+            coefficients[index] = random.nextInt(2001) - 1000;
+
+        return coefficients;
+    }
+
+    double[] schoolbook(double[] left, double[] right) {
+        double[] product = new double[left.length + right.length - 1];
+
+        PolynomialMultiplier.schoolbook(left, 0, left.length, right, 0, right.length, product, 0);
+
+        return product;
+    }
+
+    /**
+     * assert that each coefficient is within a tolerance of the sum of the magnitudes of its terms
+     */
+    void assertProductEquals(double[] left, double[] right, double[] actual, double tolerance) {
+        double[] expected = schoolbook(left, right);
+
+        double[] magnitudes = new double[expected.length];
+
+        for (int i = 0; i < left.length; i++)
+            for (int j = 0; j < right.length; j++)
+                magnitudes[i + j] += Math.abs(left[i] * right[j]);
+
+        assertEquals(expected.length, actual.length);
+
+        for (int index = 0; index < expected.length; index++)
+            assertEquals(expected[index], actual[index], tolerance * magnitudes[index]);
+    }
+
+    @Test
+    public void testKaratsubaIsExactForIntegers() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(4, Integer.MAX_VALUE, 1e-9);
+
+        for (int trial = 0; trial < 50; trial++) {
+            double[] left = integerCoefficients(1 + random.nextInt(300));
+            double[] right = integerCoefficients(1 + random.nextInt(300));
+
+            assertArrayEquals(schoolbook(left, right), multiplier.multiply(left, right), 0);
+        }
+    }
+
+    @Test
+    public void testFftMatchesSchoolbook() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(8, 16, 1e-6);
+
+        for (int length : new int[] { 16, 100, 1000, 3000 }) {
+            double[] left = randomCoefficients(length);
+            double[] right = randomCoefficients(length + random.nextInt(500));
+
+            double[] product = new double[left.length + right.length - 1];
+
+            assertTrue(multiplier.fft(left, left.length, right, right.length, product));
+
+            assertProductEquals(left, right, product, 1e-6);
+        }
+    }
+
+    @Test
+    public void testFftRejectsIllConditionedProducts() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(8, 16, 1e-6);
+
+        double[] left = randomCoefficients(2000);
+        double[] right = randomCoefficients(2000);
+
+        // a few huge coefficients swamp the rest
+        left[700] = 1e12;
+        right[1300] = -1e12;
+
+        double[] product = new double[left.length + right.length - 1];
+
+        assertFalse(multiplier.fft(left, left.length, right, right.length, product));
+
+        // the fallback is schoolbook, accurate coefficient by coefficient
+        assertProductEquals(left, right, multiplier.multiply(left, right), 1e-15);
+    }
+
+    @Test
+    public void testFftAcceptsEvenPolynomials() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(8, 1024, 1e-6);
+
+        double[] left = randomCoefficients(4001);
+        double[] right = randomCoefficients(4001);
+
+        // every odd coefficient of the operands, and so of the product, is zero
+        for (int index = 1; index < left.length; index += 2) {
+            left[index] = 0;
+            right[index] = 0;
+        }
+
+        double[] product = new double[left.length + right.length - 1];
+
+        assertTrue(multiplier.fft(left, left.length, right, right.length, product));
+
+        for (int index = 1; index < product.length; index += 2)
+            assertEquals(0.0, product[index]);
+
+        assertProductEquals(left, right, product, 1e-6);
+    }
+
+    @Test
+    public void testFftKeepsSmallNonzeroCoefficients() {
+        double[] left = new double[1100];
+        double[] right = new double[1100];
+
+        left[0] = 1;
+        left[5] = 1e-25;
+        left[1099] = 1;
+        right[0] = 1;
+        right[1099] = 1;
+
+        double[] product = new double[left.length + right.length - 1];
+
+        // the coefficient of x^5 is far below the error bound, but it is not zero
+        assertFalse(PolynomialMultiplier.getDefault().fft(left, left.length, right, right.length, product));
+
+        double[] result = PolynomialMultiplier.getDefault().multiply(left, right);
+
+        assertEquals(1e-25, result[5]);
+        assertEquals(1e-25, result[1104]);
+        assertEquals(0.0, result[6]);
+    }
+
+    @Test
+    public void testDefaultMultiplierIsAccurateForDecayingCoefficients() {
+        for (int length : new int[] { 200, 1100 }) {
+            double[] coefficients = new double[length];
+
+            for (int index = 0; index < length; index++)
+                coefficients[index] = Math.exp(-.3 * index);
+
+            double[] product = PolynomialMultiplier.getDefault().multiply(coefficients, coefficients);
+
+            // every term is positive, so schoolbook is accurate to a few ulps in every coefficient
+            assertProductEquals(coefficients, coefficients, product, 1e-13);
+
+            for (double coefficient : product)
+                assertTrue(coefficient > 0);
+        }
+    }
+
+    @Test
+    public void testFftScalesGeometricCoefficients() {
+        PolynomialMultiplier multiplier = new PolynomialMultiplier(8, 16, 1e-6);
+
+        // coefficients spanning hundreds of orders of magnitude, but evenly
+        double[] left = new double[300];
+        double[] right = new double[300];
+
+        for (int index = 0; index < left.length; index++) {
+            left[index] = Math.scalb(1 + random.nextDouble(), -index);
+            right[index] = Math.scalb(1 + random.nextDouble(), -index);
+        }
+
+        double[] product = new double[left.length + right.length - 1];
+
+        assertTrue(multiplier.fft(left, left.length, right, right.length, product));
+
+        assertProductEquals(left, right, product, 1e-6);
+    }
+
+    @Test
+    public void testPolynomialProductUsesDefaultMultiplier() {
+        Polynomial left = Polynomial.of(randomCoefficients(2000));
+        Polynomial right = Polynomial.of(randomCoefficients(1500));
+
+        double[] product = left.product(right).getCoefficients();
+
+        assertProductEquals(left.getCoefficients(), right.getCoefficients(), product, PolynomialMultiplier.DEFAULT_FFT_TOLERANCE);
+
+        PolynomialMultiplier original = PolynomialMultiplier.getDefault();
+
+        try {
+            PolynomialMultiplier.setDefault(new PolynomialMultiplier(2, Integer.MAX_VALUE, 1e-9));
+
+            assertProductEquals(left.getCoefficients(), right.getCoefficients(), left.product(right).getCoefficients(), 1e-12);
+        } finally {
+            PolynomialMultiplier.setDefault(original);
+        }
+    }
+
+    @Test
+    public void testValidation() {
+        try {
+            new PolynomialMultiplier(1, 100, 1e-9);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        try {
+            new PolynomialMultiplier(10, 100, 0);
+            fail();
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+
+        assertEquals(0, PolynomialMultiplier.getDefault().multiply(new double[0], new double[] { 1 }).length);
+    }
+}